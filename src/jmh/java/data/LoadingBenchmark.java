@@ -0,0 +1,52 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package data;
+
+import data.input.Instance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Loading of an instance from each of its formats. The json files of the 5000_1500 instances are not in data/.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class LoadingBenchmark {
+    @Param({"EASY_200_50", "MEDIUM_1000_100", "HARD_2500_1000"})
+    public String name;
+
+    @Benchmark
+    public Instance factory() {
+        return Factory.fromFile("data/"+name+".json", Instance.class);
+    }
+
+    @Benchmark
+    public Instance reader() throws IOException {
+        return Reader.readInstance("data/Instances/"+name+".txt");
+    }
+
+    @Benchmark
+    public Instance fastReader() throws IOException {
+        return FastReader.readInstance("data/Instances/"+name+".txt");
+    }
+
+    @Benchmark
+    public Instance binary() throws IOException {
+        return BinaryInstance.fromFile("data/"+name+BinaryInstance.EXTENSION);
+    }
+}
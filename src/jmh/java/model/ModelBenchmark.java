@@ -0,0 +1,57 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import bench.Bench;
+import data.input.Instance;
+import org.chocosolver.solver.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Construction of the model (variables, channeling, precedences, work centers, objective and search) on each size
+// class of data/. EASY instances are built with RNMPEasy, as they are solved, whatever lean is.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ModelBenchmark {
+    @Param({"EASY", "MEDIUM", "HARD"})
+    public String difficulty;
+
+    @Param({"5_3", "200_50", "1000_100", "2000_500", "2500_1000", "5000_1500"})
+    public String size;
+
+    @Param({"true", "false"})
+    public boolean lean;
+
+    private Instance instance;
+
+    @Setup
+    public void setup() throws IOException {
+        instance = Bench.loadInstance(difficulty+"_"+size);
+    }
+
+    @Benchmark
+    public Model construction() {
+        if(difficulty.equals("EASY")) {
+            return new RNMPEasy(instance, RNMP.HOME_MADE_SEARCH, 0).model;
+        }
+        return new RNMP(instance, RNMP.HOME_MADE_SEARCH, 0, true, lean).model;
+    }
+}
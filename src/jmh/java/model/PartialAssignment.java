@@ -0,0 +1,33 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import eval.SolutionChecker;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.exception.ContradictionException;
+
+import java.io.IOException;
+
+// Partial assignment shared by the benchmarks : every other worksheet gets isDone and start of results/<name>.txt,
+// so that the measures do not depend on a search. Nothing is fixed when the file does not exist.
+final class PartialAssignment {
+
+    private PartialAssignment() {}
+
+    // Instantiates the variables without propagating them
+    static void instantiate(RNMP rnmp) throws IOException, ContradictionException {
+        int[][] solution = SolutionChecker.readSolution("results/"+rnmp.instance.name+".txt");
+        if(solution == null) {
+            return;
+        }
+        int[] starts = SolutionChecker.toStarts(rnmp.instance, solution);
+        for(int w = 0; w<starts.length; w += 2) {
+            rnmp.isDone[w].instantiateTo(starts[w] >= 0 ? 1 : 0, Cause.Null);
+            if(starts[w] >= 0) {
+                rnmp.getStartWorksheet(w).instantiateTo(starts[w], Cause.Null);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import bench.Bench;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Full propagation of the propagators of one named constraint of RNMP, alone, right after the partial assignment
+// has been instantiated on top of the root node. The other propagators are not run, and every invocation starts
+// from the same state : the assignment is made in a fresh world, popped once the propagators are done.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PropagatorBenchmark {
+    @Param({"MEDIUM_200_50", "HARD_1000_100", "HARD_2500_1000", "HARD_5000_1500"})
+    public String name;
+
+    @Param({"CHANNELING_CONSTRAINT", "PRECEDENCES_CONSTRAINT", "MAX_PERTURBATION_CONSTRAINT"})
+    public String constraint;
+
+    private RNMP rnmp;
+    private Solver solver;
+    private IEnvironment environment;
+    private Propagator<?>[] propagators;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ContradictionException {
+        rnmp = new RNMP(Bench.loadInstance(name));
+        solver = rnmp.model.getSolver();
+        environment = rnmp.model.getEnvironment();
+        solver.propagate();
+        List<Propagator<?>> list = new ArrayList<>();
+        for(Constraint c : rnmp.model.getCstrs()) {
+            if(c.getName().equals(constraint)) {
+                for(Propagator<?> p : c.getPropagators()) {
+                    list.add(p);
+                }
+            }
+        }
+        if(list.isEmpty()) {
+            throw new IllegalArgumentException("no constraint "+constraint+" in "+name);
+        }
+        propagators = list.toArray(new Propagator<?>[0]);
+    }
+
+    @Setup(Level.Invocation)
+    public void instantiate() throws IOException, ContradictionException {
+        environment.worldPush();
+        PartialAssignment.instantiate(rnmp);
+        solver.getEngine().flush();
+    }
+
+    @TearDown(Level.Invocation)
+    public void backtrack() {
+        solver.getEngine().flush();
+        environment.worldPop();
+    }
+
+    @Benchmark
+    public void propagate() throws ContradictionException {
+        for(Propagator<?> p : propagators) {
+            if(p.isActive()) {
+                p.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            }
+        }
+    }
+}
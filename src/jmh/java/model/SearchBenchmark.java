@@ -0,0 +1,64 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import bench.Bench;
+import data.input.Instance;
+import org.chocosolver.solver.Solver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// First nodes of the home-made search from the root node : variable and value selections, propagation and
+// backtracks, without the model construction, which is done again before each invocation.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SearchBenchmark {
+    @Param({"EASY_2500_1000", "MEDIUM_200_50", "MEDIUM_2500_1000", "HARD_1000_100", "HARD_5000_1500"})
+    public String name;
+
+    @Param({"1000"})
+    public int nodes;
+
+    private Instance instance;
+    private Solver solver;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        instance = Bench.loadInstance(name);
+    }
+
+    @Setup(Level.Invocation)
+    public void build() {
+        if(name.startsWith("EASY")) {
+            solver = new RNMPEasy(instance, RNMP.HOME_MADE_SEARCH, 0).model.getSolver();
+        } else {
+            solver = new RNMP(instance).model.getSolver();
+        }
+        solver.limitNode(nodes);
+    }
+
+    @Benchmark
+    public long search() {
+        while(solver.solve());
+        return solver.getNodeCount();
+    }
+}
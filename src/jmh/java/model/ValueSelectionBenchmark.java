@@ -0,0 +1,142 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import bench.Bench;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Selection of the best start of every worksheet whose start is not fixed, after propagation of the partial
+// assignment. The state does not change between invocations, so the cached selection measures its cache hits.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ValueSelectionBenchmark {
+    @Param({"MEDIUM_200_50", "HARD_1000_100", "HARD_2500_1000", "HARD_5000_1500"})
+    public String name;
+
+    @Param({"naive", "sliding", "cached"})
+    public String selection;
+
+    private BestStartSelector selector;
+    private IntVar[] starts;
+    private int[] ids;
+
+    @Setup
+    public void setup() throws IOException, ContradictionException {
+        RNMP rnmp = new RNMP(Bench.loadInstance(name));
+        rnmp.model.getSolver().propagate();
+        PartialAssignment.instantiate(rnmp);
+        rnmp.model.getSolver().propagate();
+        selector = new BestStartSelector(rnmp.instance, rnmp.roadsPerturbation, selection.equals("cached"));
+        int nbFree = 0;
+        for(int w = 0; w<rnmp.isDone.length; w++) {
+            if(!rnmp.getStartWorksheet(w).isInstantiated()) {
+                nbFree++;
+            }
+        }
+        starts = new IntVar[nbFree];
+        ids = new int[nbFree];
+        for(int w = 0, k = 0; w<rnmp.isDone.length; w++) {
+            if(!rnmp.getStartWorksheet(w).isInstantiated()) {
+                starts[k] = rnmp.getStartWorksheet(w);
+                ids[k++] = w;
+            }
+        }
+    }
+
+    @Benchmark
+    public int select() {
+        int sum = 0;
+        if(selection.equals("naive")) {
+            for(int k = 0; k<starts.length; k++) {
+                sum += selector.naiveBestStart(ids[k], starts[k]);
+            }
+        } else {
+            for(int k = 0; k<starts.length; k++) {
+                sum += selector.bestStart(ids[k], starts[k]);
+            }
+        }
+        return sum;
+    }
+
+    // Outside of JMH : runs the home-made search of RNMP on the given instances and times, on every start decision,
+    // the naive, sliding and cached selections, checking that they agree. The first run of each instance warms up the JIT.
+    public static void main(String[] args) throws IOException {
+        int nbNodes = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        for(String name : args.length > 0 ? args[0].split(",") : new String[]{"MEDIUM_200_50", "HARD_1000_100", "MEDIUM_2000_500"}) {
+            for(int run = 0; run<2; run++) {
+                compareDuringSearch(name, nbNodes);
+            }
+        }
+    }
+
+    private static void compareDuringSearch(String name, int nbNodes) throws IOException {
+        RNMP rnmp = new RNMP(Bench.loadInstance(name));
+        BestStartSelector sliding = new BestStartSelector(rnmp.instance, rnmp.roadsPerturbation, false);
+        BestStartSelector cached = new BestStartSelector(rnmp.instance, rnmp.roadsPerturbation, true);
+        IntVar[] decVars = new IntVar[2*rnmp.isDone.length];
+        IntVar[] starts = new IntVar[rnmp.isDone.length];
+        int[] importances = new int[starts.length];
+        for(int i = 0; i<starts.length; i++) {
+            starts[i] = rnmp.getStartWorksheet(i);
+            importances[i] = rnmp.instance.worksheets[i].importance;
+            decVars[2*i] = rnmp.isDone[i];
+            decVars[2*i+1] = starts[i];
+        }
+        long[] times = new long[3];
+        int[] nbCalls = new int[1];
+        rnmp.model.getSolver().setSearch(Search.intVarSearch(new IndexedWorksheetSelector(starts, rnmp.isDone, importances), new IntValueSelector() {
+            @Override
+            public int selectValue(IntVar var) {
+                if(var instanceof BoolVar) {
+                    return var.getUB();
+                }
+                int id = 0;
+                while(starts[id] != var) {
+                    id++;
+                }
+                long time = System.nanoTime();
+                int naive = sliding.naiveBestStart(id, var);
+                times[0] += System.nanoTime()-time;
+                time = System.nanoTime();
+                int slide = sliding.bestStart(id, var);
+                times[1] += System.nanoTime()-time;
+                time = System.nanoTime();
+                int cache = cached.bestStart(id, var);
+                times[2] += System.nanoTime()-time;
+                if(naive != slide || naive != cache) {
+                    throw new IllegalStateException(name+" : worksheet "+id+" naive="+naive+" sliding="+slide+" cached="+cache);
+                }
+                nbCalls[0]++;
+                return naive;
+            }
+        }, decVars));
+        rnmp.model.getSolver().limitNode(nbNodes);
+        while(rnmp.model.getSolver().solve());
+        System.out.println(name+" : "+nbCalls[0]+" selections, naive "+times[0]/1000000+"ms, sliding "+times[1]/1000000
+                +"ms, cached "+times[2]/1000000+"ms");
+    }
+}
@@ -4,24 +4,50 @@
 */
 package bench;
 
+import data.BinaryInstance;
 import data.Factory;
+import data.FastReader;
 import data.input.Instance;
+import data.input.Presolve;
+import localsearch.LocalSearch;
+import model.Portfolio;
 import model.RNMP;
 import model.RNMPEasy;
 import org.chocosolver.solver.exception.ContradictionException;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.TreeSet;
 
 public class Bench {
 
     public static void main(String[] args) throws IOException, ContradictionException {
 //        args = new String[]{"-lns", "30m", "EASY_5000_1500"};
+//        args = new String[]{"-portfolio", "16", "30m", "HARD_2500_1000"};
+//        args = new String[]{"-sa", "30s", "HARD_5000_1500"};
 
-        if(args.length == 3) {
+        if(args.length == 4) {
+            if(args[0].equals("-portfolio")) {
+                int nbModels = Integer.parseInt(args[1]);
+                if(!"all".equals(args[3])) {
+                    Instance instance = loadInstance(args[3]);
+                    System.out.println(instance.name);
+                    new Portfolio(instance, nbModels).solve(args[2]);
+                } else {
+                    for(String name : instanceNames()) {
+                        Instance instance = loadInstance(name);
+                        System.out.println(instance.name);
+                        new Portfolio(instance, nbModels).solve(args[2]);
+                    }
+                }
+            } else {
+                throw new UnsupportedOperationException("if args has size 4, then args[0] should be -portfolio");
+            }
+        } else if(args.length == 3) {
             if(args[0].equals("-lns")) {
                 if(!"all".equals(args[2])) {
-                    Instance instance = Factory.fromFile("data/"+args[2]+".json", Instance.class);
+                    Instance instance = loadInstance(args[2]);
                     System.out.println(instance.name);
                     if(instance.name.contains("EASY")) {
                         RNMPEasy rnmpEasy = new RNMPEasy(instance);
@@ -31,26 +57,30 @@ public class Bench {
                         rnmp.lnsSolve(args[1]);
                     }
                 } else {
-                    File folder = new File("data/");
-                    for(File f : folder.listFiles()) {
-                        if(f.isFile()) {
-                            Instance instance = Factory.fromFile(f.getPath(), Instance.class);
-                            System.out.println(instance.name);
-                            if(instance.name.contains("EASY")) {
-                                RNMPEasy rnmpEasy = new RNMPEasy(instance);
-                                rnmpEasy.lnsSolve(args[1]);
-                            } else {
-                                RNMP rnmp = new RNMP(instance);
-                                rnmp.lnsSolve(args[1]);
-                            }
+                    for(String name : instanceNames()) {
+                        Instance instance = loadInstance(name);
+                        System.out.println(instance.name);
+                        if(instance.name.contains("EASY")) {
+                            RNMPEasy rnmpEasy = new RNMPEasy(instance);
+                            rnmpEasy.lnsSolve(args[1]);
+                        } else {
+                            RNMP rnmp = new RNMP(instance);
+                            rnmp.lnsSolve(args[1]);
                         }
                     }
                 }
+            } else if(args[0].equals("-sa") || args[0].equals("-lahc")) {
+                int acceptance = args[0].equals("-sa") ? LocalSearch.SIMULATED_ANNEALING : LocalSearch.LATE_ACCEPTANCE;
+                for(String name : "all".equals(args[2]) ? instanceNames() : Collections.singleton(args[2])) {
+                    Instance instance = loadInstance(name);
+                    System.out.println(instance.name);
+                    LocalSearch.solve(instance, args[1], acceptance);
+                }
             } else {
-                throw new UnsupportedOperationException("if args has size 3, then args[0] should be -lns");
+                throw new UnsupportedOperationException("if args has size 3, then args[0] should be -lns, -sa or -lahc");
             }
         } else if(!"all".equals(args[1])) {
-            Instance instance = Factory.fromFile("data/"+args[1]+".json", Instance.class);
+            Instance instance = loadInstance(args[1]);
             System.out.println(instance.name);
             if(instance.name.contains("EASY")) {
                 RNMPEasy rnmpEasy = new RNMPEasy(instance);
@@ -60,15 +90,54 @@ public class Bench {
                 rnmp.solve(args[0]);
             }
         } else {
-            File folder = new File("data/");
-            for(File f : folder.listFiles()) {
-                if(f.isFile()) {
-                    Instance instance = Factory.fromFile(f.getPath(), Instance.class);
-                    System.out.println(instance.name);
+            for(String name : instanceNames()) {
+                Instance instance = loadInstance(name);
+                System.out.println(instance.name);
+                if(instance.name.contains("EASY")) {
+                    RNMPEasy rnmpEasy = new RNMPEasy(instance);
+                    rnmpEasy.solve(args[0]);
+                } else {
                     RNMP rnmp = new RNMP(instance);
                     rnmp.solve(args[0]);
                 }
             }
         }
     }
+
+    // Reads the instance, see readInstance, and presolves it
+    public static Instance loadInstance(String name) throws IOException {
+        Instance instance = readInstance(name);
+        Presolve.run(instance);
+        return instance;
+    }
+
+    // Reads data/<name>.rnmp when it exists, data/<name>.json otherwise, and data/Instances/<name>.txt as a last resort
+    public static Instance readInstance(String name) throws IOException {
+        if(new File("data/"+name+BinaryInstance.EXTENSION).exists()) {
+            return BinaryInstance.fromFile("data/"+name+BinaryInstance.EXTENSION);
+        }
+        if(new File("data/"+name+".json").exists()) {
+            return Factory.fromFile("data/"+name+".json", Instance.class);
+        }
+        return FastReader.readInstance("data/Instances/"+name+".txt");
+    }
+
+    // Names of the instances of data/, available in binary, json or text
+    public static TreeSet<String> instanceNames() {
+        TreeSet<String> names = new TreeSet<>();
+        for(File f : new File("data/").listFiles()) {
+            String fileName = f.getName();
+            if(f.isFile() && fileName.endsWith(".json")) {
+                names.add(fileName.substring(0, fileName.length()-".json".length()));
+            } else if(f.isFile() && fileName.endsWith(BinaryInstance.EXTENSION)) {
+                names.add(fileName.substring(0, fileName.length()-BinaryInstance.EXTENSION.length()));
+            }
+        }
+        for(File f : new File("data/Instances/").listFiles()) {
+            if(f.isFile() && f.getName().endsWith(".txt")) {
+                names.add(f.getName().substring(0, f.getName().length()-".txt".length()));
+            }
+        }
+        return names;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package bench;
+
+import data.input.Instance;
+import data.input.Presolve;
+import model.PropChannelingRoadPerturbation;
+import model.RNMP;
+import model.RNMPEasy;
+import org.chocosolver.solver.Model;
+
+import java.io.IOException;
+
+// Reductions of Presolve on every instance, and the size of the model built before and after it
+public class PresolveReport {
+    public static void main(String[] args) throws IOException {
+        System.out.println("instance presolve(ms) narrowed starts impossible precedences cells vars cstrs");
+        for(String name : Bench.instanceNames()) {
+            Instance instance = Bench.readInstance(name);
+            int[] before = measure(instance);
+            long time = System.nanoTime();
+            Presolve presolve = Presolve.run(instance);
+            time = System.nanoTime()-time;
+            int[] after = measure(instance);
+            System.out.println(name+" "+String.format("%.1f", time/1e6)+" "+presolve.getNbNarrowed()+" "
+                    +presolve.getNbStartsBefore()+"->"+presolve.getNbStartsAfter()+" "+presolve.getNbImpossible()+" "
+                    +presolve.getNbPrecedencesBefore()+"->"+presolve.getNbPrecedencesAfter()+" "
+                    +before[0]+"->"+after[0]+" "+before[1]+"->"+after[1]+" "+before[2]+"->"+after[2]);
+        }
+    }
+
+    // returns {reachable cells, variables, constraints}
+    private static int[] measure(Instance instance) {
+        Model model;
+        if(instance.name.contains("EASY")) {
+            model = new RNMPEasy(instance).getModel();
+        } else {
+            model = new RNMP(instance).getModel();
+        }
+        return new int[]{PropChannelingRoadPerturbation.computeReachableCells(instance).length, model.getNbVars(), model.getNbCstrs()};
+    }
+}
@@ -5,25 +5,27 @@
 package bench;
 
 import data.Factory;
+import data.FastReader;
 import data.input.Instance;
-import model.RNMP;
-import model.RNMPEasy;
-import org.chocosolver.solver.exception.ContradictionException;
+import eval.SolutionChecker;
 
+import java.io.File;
 import java.io.IOException;
 
 public class ReadBestValues {
     public static final String[] difficulties = new String[]{"EASY", "MEDIUM", "HARD"};
     public static final String[] values = new String[]{"5_3", "200_50", "1000_100", "2000_500", "2500_1000", "5000_1500"};
 
-    public static void main(String[] args) throws IOException, ContradictionException {
+    public static void main(String[] args) throws IOException {
         for(String diff : difficulties) {
             System.out.println(diff);
             StringBuilder sb = new StringBuilder();
             for(String v : values) {
-                Instance instance = Factory.fromFile("data/"+diff+"_"+v+".json", Instance.class);
-                int bestObjValue = ("EASY".equals(diff) ? RNMPEasy.computeObjectiveOfSolution(instance, "results/"+instance.name+".txt")
-                        : RNMP.computeObjectiveOfSolution(instance, "results/"+instance.name+".txt"));
+                // the 5000_1500 instances are only available in the text format
+                Instance instance = new File("data/"+diff+"_"+v+".json").exists()
+                        ? Factory.fromFile("data/"+diff+"_"+v+".json", Instance.class)
+                        : FastReader.readInstance("data/Instances/"+diff+"_"+v+".txt");
+                int bestObjValue = SolutionChecker.computeObjectiveOfSolution(instance, "results/"+instance.name+".txt");
 //                System.out.println(instance.name+" : "+bestObjValue);
                 sb.append(bestObjValue).append(" ");
             }
@@ -0,0 +1,251 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package bench;
+
+import com.sun.management.ThreadMXBean;
+import data.input.Instance;
+import eval.Trace;
+import localsearch.LocalSearch;
+import model.RNMP;
+import model.RNMPEasy;
+import model.TraceMonitor;
+import model.lns.FragmentLimits;
+import model.profiling.ProfilingEngine;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Runs every (instance, configuration, seed) job on a pool of threads and writes one line of CSV per job.
+// A job only starts once its memory budget, in MB, fits in what the other running jobs leave of the heap.
+// Configurations :
+// - cp : home-made search, lns : adaptive LNS, random : random search (RNMPEasy for EASY instances, RNMP otherwise);
+// - sa, lahc : local search, where nodes are the moves and fails the rejected moves.
+// Jobs neither warm start from results/ nor write it, so that the runs of a sweep are comparable.
+// Every job also writes its trace in traces/, see TraceReport.
+// Allocated is what the thread of the job allocated while running it, garbage included, whatever the number of threads.
+// JVM peak heap is the highest heap usage of the JVM sampled while the job was running, hence shared by concurrent
+// jobs : it is the peak heap of the job only with -threads 1.
+// A job that throws, OutOfMemoryError included, keeps its line with no objective and the class of what was thrown as
+// error.
+//
+// Usage : Runner [-threads n] [-memory mb] [-csv path] <timeLimit> <config,...> <instance,...|all> <nbSeeds>
+public class Runner {
+    public static final String[] CONFIGS = {"cp", "lns", "random", "sa", "lahc"};
+    private static final long SAMPLING_PERIOD = 100; // ms
+    private static final String HEADER = "instance,config,seed,objective,time_to_best_s,time_s,nodes,fails,allocated_mb,jvm_peak_heap_mb,budget_mb,error";
+
+    private static class Job implements Runnable {
+        private String name;
+        private String config;
+        private long seed;
+        private String timeLimit;
+        private int budget;
+
+        private long allocated;
+        private volatile long peakHeap;
+        private Integer objective;
+        private double timeToBest;
+        private double time;
+        private long nodes;
+        private long fails;
+        private String error = "";
+
+        private Job(String name, String config, long seed, String timeLimit, int budget) {
+            this.name = name;
+            this.config = config;
+            this.seed = seed;
+            this.timeLimit = timeLimit;
+            this.budget = budget;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Instance instance = Bench.loadInstance(name);
+                if(config.equals("sa") || config.equals("lahc")) {
+                    runLocalSearch(instance);
+                } else {
+                    runSolver(instance);
+                }
+            } catch(IOException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        private void runSolver(Instance instance) throws IOException {
+            int searchType = config.equals("random") ? RNMP.RANDOM_SEARCH : RNMP.HOME_MADE_SEARCH;
+            Solver solver;
+            FragmentLimits limits = null;
+            if(instance.name.contains("EASY")) {
+                RNMPEasy rnmp = new RNMPEasy(instance, searchType, seed);
+                if(config.equals("lns")) {
+                    limits = rnmp.setLNS(seed);
+                }
+                solver = rnmp.getModel().getSolver();
+            } else {
+                RNMP rnmp = new RNMP(instance, searchType, seed);
+                if(config.equals("lns")) {
+                    limits = rnmp.setLNS(seed);
+                }
+                solver = rnmp.getModel().getSolver();
+            }
+            solver.limitTime(timeLimit);
+            solver.plugMonitor((IMonitorSolution) () -> timeToBest = solver.getTimeCount());
+            Trace trace = TraceMonitor.plug(solver, name, config, seed, limits == null ? null : limits.getNeighbor());
+            while(solver.solve());
+            trace.write();
+            ProfilingEngine.printIfEnabled(solver.getModel());
+            if(solver.getSolutionCount() > 0) {
+                objective = solver.getObjectiveManager().getBestSolutionValue().intValue();
+            }
+            time = solver.getTimeCount();
+            nodes = solver.getNodeCount();
+            fails = solver.getFailCount();
+        }
+
+        private void runLocalSearch(Instance instance) {
+            long begin = System.currentTimeMillis();
+            LocalSearch ls = new LocalSearch(instance, seed);
+            ls.solve(timeLimit, config.equals("sa") ? LocalSearch.SIMULATED_ANNEALING : LocalSearch.LATE_ACCEPTANCE);
+            objective = ls.getBestObjective();
+            timeToBest = ls.getTimeToBest()/1000.0;
+            time = (System.currentTimeMillis()-begin)/1000.0;
+            nodes = ls.getNbMoves();
+            fails = ls.getNbMoves()-ls.getNbAccepted();
+        }
+
+        private String toCSV() {
+            return name+","+config+","+seed+","+(objective == null ? "" : objective)+","+String.format("%.3f", timeToBest)+","
+                    +String.format("%.3f", time)+","+nodes+","+fails+","+allocated/(1024*1024)+","
+                    +peakHeap/(1024*1024)+","+budget+","+error;
+        }
+    }
+
+    // Memory budget of a job in MB, twice the heap measured for the models of the instances of data/ :
+    // about 200 bytes per (road, time) cell and 25kB per activity
+    public static int estimateBudget(Instance instance) {
+        long bytes = 200L*instance.roadsCost.length*instance.horizon+25000L*instance.nbActivities;
+        return (int) Math.max(64, 2*bytes/(1024*1024));
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int nbThreads = Runtime.getRuntime().availableProcessors();
+        int memory = -1;
+        String csv = "runs.csv";
+        int k = 0;
+        while(k < args.length && args[k].startsWith("-")) {
+            switch(args[k]) {
+                case "-threads":
+                    nbThreads = Integer.parseInt(args[k+1]);
+                    break;
+                case "-memory":
+                    memory = Integer.parseInt(args[k+1]);
+                    break;
+                case "-csv":
+                    csv = args[k+1];
+                    break;
+                default:
+                    throw new UnsupportedOperationException("unknown option "+args[k]);
+            }
+            k += 2;
+        }
+        if(args.length-k != 4) {
+            throw new UnsupportedOperationException("Runner [-threads n] [-memory mb] [-csv path] <timeLimit> <config,...> <instance,...|all> <nbSeeds>");
+        }
+        String timeLimit = args[k];
+        String[] configs = args[k+1].split(",");
+        for(String config : configs) {
+            if(!Arrays.asList(CONFIGS).contains(config)) {
+                throw new UnsupportedOperationException("unknown configuration "+config+", should be one of "+Arrays.toString(CONFIGS));
+            }
+        }
+        List<String> names = "all".equals(args[k+2]) ? new ArrayList<>(Bench.instanceNames()) : Arrays.asList(args[k+2].split(","));
+        int nbSeeds = Integer.parseInt(args[k+3]);
+
+        int heap = (int) (Runtime.getRuntime().maxMemory()/(1024*1024));
+        Semaphore available = new Semaphore(heap, true);
+        List<Job> jobs = new ArrayList<>();
+        for(String name : names) {
+            int budget = Math.min(heap, memory > 0 ? memory : estimateBudget(Bench.loadInstance(name)));
+            for(String config : configs) {
+                for(long seed = 0; seed<nbSeeds; seed++) {
+                    jobs.add(new Job(name, config, seed, timeLimit, budget));
+                }
+            }
+        }
+        System.out.println(jobs.size()+" jobs on "+nbThreads+" threads, heap of "+heap+"MB");
+
+        Set<Job> running = ConcurrentHashMap.newKeySet();
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Thread sampler = new Thread(() -> {
+            while(true) {
+                try {
+                    long used = memoryBean.getHeapMemoryUsage().getUsed();
+                    for(Job job : running) {
+                        job.peakHeap = Math.max(job.peakHeap, used);
+                    }
+                } catch(OutOfMemoryError ex) {
+                    // the job that exhausted the heap reports it, sampling goes on for the next ones
+                }
+                try {
+                    Thread.sleep(SAMPLING_PERIOD);
+                } catch(InterruptedException ex) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+
+        PrintWriter writer = new PrintWriter(new FileWriter(csv));
+        writer.println(HEADER);
+        writer.flush();
+        ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+        for(Job job : jobs) {
+            pool.execute(() -> {
+                available.acquireUninterruptibly(job.budget);
+                running.add(job);
+                long allocatedBefore = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+                try {
+                    System.out.println("start "+job.name+" "+job.config+" "+job.seed);
+                    job.run();
+                    job.peakHeap = Math.max(job.peakHeap, memoryBean.getHeapMemoryUsage().getUsed());
+                } catch(Throwable ex) {
+                    ex.printStackTrace();
+                    job.objective = null;
+                    job.error = ex.getClass().getSimpleName();
+                } finally {
+                    job.allocated = threadBean.getThreadAllocatedBytes(Thread.currentThread().getId())-allocatedBefore;
+                    running.remove(job);
+                    available.release(job.budget);
+                }
+                synchronized(writer) {
+                    writer.println(job.toCSV());
+                    writer.flush();
+                }
+                System.out.println(job.toCSV());
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        sampler.interrupt();
+        writer.close();
+    }
+}
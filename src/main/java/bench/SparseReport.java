@@ -0,0 +1,60 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package bench;
+
+import data.Factory;
+import data.input.Instance;
+import model.PropChannelingRoadPerturbation;
+import model.RNMP;
+import model.RNMPEasy;
+
+import java.io.File;
+import java.util.Arrays;
+
+public class SparseReport {
+    public static final int NB_RUNS = 3;
+
+    // keeps the last built model reachable while its heap is measured
+    private static Object lastModel;
+
+    public static void main(String[] args) {
+        System.out.println("instance cells reachable dense(ms) sparse(ms) dense(MB) sparse(MB)");
+        File[] files = new File("data/").listFiles();
+        Arrays.sort(files);
+        for(File f : files) {
+            if(f.isFile() && f.getName().endsWith(".json")) {
+                Instance instance = Factory.fromFile(f.getPath(), Instance.class);
+                int nbReachable = PropChannelingRoadPerturbation.computeReachableCells(instance).length;
+                long[] dense = measure(instance, false);
+                long[] sparse = measure(instance, true);
+                System.out.println(instance.name+" "+instance.roadsCost.length*instance.horizon+" "+nbReachable
+                        +" "+dense[0]+" "+sparse[0]+" "+dense[1]/(1024*1024)+" "+sparse[1]/(1024*1024));
+            }
+        }
+    }
+
+    // returns {best build time in ms, retained heap in bytes}
+    private static long[] measure(Instance instance, boolean sparse) {
+        Runtime runtime = Runtime.getRuntime();
+        long bestTime = Long.MAX_VALUE;
+        long memory = 0;
+        for(int run = 0; run<NB_RUNS; run++) {
+            lastModel = null;
+            System.gc();
+            long before = runtime.totalMemory()-runtime.freeMemory();
+            long time = System.currentTimeMillis();
+            if(instance.name.contains("EASY")) {
+                lastModel = new RNMPEasy(instance, RNMP.RANDOM_SEARCH, 0, sparse);
+            } else {
+                lastModel = new RNMP(instance, RNMP.HOME_MADE_SEARCH, 0, sparse);
+            }
+            bestTime = Math.min(bestTime, System.currentTimeMillis()-time);
+            System.gc();
+            memory = runtime.totalMemory()-runtime.freeMemory()-before;
+        }
+        lastModel = null;
+        return new long[]{bestTime, memory};
+    }
+}
@@ -0,0 +1,69 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package bench;
+
+import eval.SolutionChecker;
+import eval.Trace;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Anytime performance of traces against the best known solutions of results/ : primal integral (in seconds, the
+// lower the better) over the duration of the longest trace of the instance, and time to reach RATIOS of the reference.
+// The reference of an instance is the best of results/ and of its traces, so that traces beating results/ still compare.
+//
+// Usage : TraceReport [trace files or directories, traces/ by default]
+public class TraceReport {
+    public static final double[] RATIOS = {0.9, 0.95, 0.99, 1};
+
+    public static void main(String[] args) throws IOException {
+        List<Trace> traces = new ArrayList<>();
+        for(String arg : args.length == 0 ? new String[]{Trace.DIRECTORY} : args) {
+            File file = new File(arg);
+            File[] files = file.isDirectory() ? file.listFiles((dir, name) -> name.endsWith(Trace.EXTENSION)) : new File[]{file};
+            Arrays.sort(files);
+            for(File f : files) {
+                traces.add(Trace.read(f.getPath()));
+            }
+        }
+
+        Map<String, Integer> references = new HashMap<>();
+        Map<String, Long> ends = new HashMap<>();
+        for(Trace trace : traces) {
+            String name = trace.getInstance();
+            if(!references.containsKey(name)) {
+                references.put(name, SolutionChecker.computeObjectiveOfSolution(Bench.loadInstance(name), "results/"+name+".txt"));
+                ends.put(name, 0L);
+            }
+            references.put(name, Math.max(references.get(name), trace.getBest()));
+            if(trace.size() > 0) {
+                ends.put(name, Math.max(ends.get(name), trace.getTime(trace.size()-1)));
+            }
+        }
+
+        StringBuilder header = new StringBuilder("instance config seed best reference primal_integral");
+        for(double ratio : RATIOS) {
+            header.append(" t").append(Math.round(100*ratio));
+        }
+        System.out.println(header);
+        for(Trace trace : traces) {
+            int reference = references.get(trace.getInstance());
+            StringBuilder sb = new StringBuilder();
+            sb.append(trace.getInstance()).append(" ").append(trace.getConfig()).append(" ").append(trace.getSeed()).append(" ")
+                    .append(trace.getBest() == Trace.NONE ? "-" : trace.getBest()).append(" ").append(reference).append(" ")
+                    .append(String.format("%.3f", trace.primalIntegral(reference, ends.get(trace.getInstance()))));
+            for(double ratio : RATIOS) {
+                long time = trace.timeTo(ratio, reference);
+                sb.append(" ").append(time < 0 ? "-" : String.format("%.3f", time/1000.0));
+            }
+            System.out.println(sb);
+        }
+    }
+}
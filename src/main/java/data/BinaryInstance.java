@@ -0,0 +1,153 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package data;
+
+import data.input.Instance;
+import data.input.RoadMaxBlock;
+import data.input.Worksheet;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+// Binary .rnmp format : "RNMP", version, name, then every field of Instance as big-endian ints in declaration order
+public class BinaryInstance {
+    public static final int MAGIC = 0x524E4D50; // "RNMP"
+    public static final int VERSION = 1;
+    public static final String EXTENSION = ".rnmp";
+
+    public static void toFile(String path, Instance instance) throws IOException {
+        File f = new File(path);
+        if(f.getParentFile() != null && !f.getParentFile().exists()) {
+            f.getParentFile().mkdirs();
+        }
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            byte[] name = instance.name.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(name.length);
+            out.write(name);
+
+            out.writeInt(instance.horizon);
+            out.writeInt(instance.roadsCost.length);
+            out.writeInt(instance.workCenters.length);
+            out.writeInt(instance.worksheets.length);
+            out.writeInt(instance.nbActivities);
+            for(int[] costs : instance.roadsCost) {
+                writeInts(out, costs);
+            }
+            writeInts(out, instance.workCenters);
+            for(Worksheet ws : instance.worksheets) {
+                out.writeInt(ws.id);
+                out.writeInt(ws.workCenterID);
+                out.writeInt(ws.mandatory);
+                out.writeInt(ws.importance);
+                out.writeInt(ws.est);
+                out.writeInt(ws.lst);
+                out.writeInt(ws.duration);
+                writeInts(out, ws.roadsID);
+                writeInts(out, ws.amountOfWorkers);
+            }
+            out.writeInt(instance.roadsBlocked.length);
+            for(RoadMaxBlock rmb : instance.roadsBlocked) {
+                out.writeInt(rmb.nbMaxBlocked);
+                out.writeInt(rmb.roadsID.length);
+                writeInts(out, rmb.roadsID);
+            }
+            out.writeInt(instance.precedences.length);
+            for(int[] prec : instance.precedences) {
+                writeInts(out, prec);
+            }
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for(int v : values) {
+            out.writeInt(v);
+        }
+    }
+
+    public static Instance fromFile(String path) throws IOException {
+        try(RandomAccessFile raf = new RandomAccessFile(path, "r"); FileChannel channel = raf.getChannel()) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.getInt() != MAGIC) {
+                throw new IOException(path+" is not a "+EXTENSION+" file");
+            }
+            int version = buffer.getInt();
+            if(version != VERSION) {
+                throw new IOException(path+" has version "+version+" but only version "+VERSION+" is supported");
+            }
+            byte[] name = new byte[buffer.getInt()];
+            buffer.get(name);
+            IntBuffer ints = buffer.asIntBuffer();
+
+            Instance instance = new Instance();
+            instance.name = new String(name, StandardCharsets.UTF_8);
+            instance.horizon = ints.get();
+            instance.roadsCost = new int[ints.get()][instance.horizon];
+            instance.workCenters = new int[ints.get()];
+            instance.worksheets = new Worksheet[ints.get()];
+            instance.nbActivities = ints.get();
+            for(int[] costs : instance.roadsCost) {
+                ints.get(costs);
+            }
+            ints.get(instance.workCenters);
+            for(int i = 0; i<instance.worksheets.length; i++) {
+                Worksheet ws = new Worksheet();
+                instance.worksheets[i] = ws;
+                ws.id = ints.get();
+                ws.workCenterID = ints.get();
+                ws.mandatory = ints.get();
+                ws.importance = ints.get();
+                ws.est = ints.get();
+                ws.lst = ints.get();
+                ws.duration = ints.get();
+                ws.roadsID = new int[ws.duration];
+                ints.get(ws.roadsID);
+                ws.amountOfWorkers = new int[ws.duration];
+                ints.get(ws.amountOfWorkers);
+            }
+            instance.roadsBlocked = new RoadMaxBlock[ints.get()];
+            for(int i = 0; i<instance.roadsBlocked.length; i++) {
+                RoadMaxBlock rmb = new RoadMaxBlock();
+                instance.roadsBlocked[i] = rmb;
+                rmb.nbMaxBlocked = ints.get();
+                rmb.roadsID = new int[ints.get()];
+                ints.get(rmb.roadsID);
+            }
+            instance.precedences = new int[ints.get()][2];
+            for(int[] prec : instance.precedences) {
+                ints.get(prec);
+            }
+            return instance;
+        }
+    }
+
+    // Converts the given .json or .txt instances to data/<name>.rnmp.
+    // By default converts every instance of data/Instances, from data/<name>.json when it exists as Bench used to load it.
+    public static void main(String[] args) throws IOException {
+        if(args.length == 0) {
+            File[] files = new File("data/Instances").listFiles();
+            args = new String[files.length];
+            for(int i = 0; i<files.length; i++) {
+                String name = files[i].getName().substring(0, files[i].getName().length()-4);
+                args[i] = new File("data/"+name+".json").exists() ? "data/"+name+".json" : files[i].getPath();
+            }
+        }
+        for(String path : args) {
+            Instance instance = path.endsWith(".json") ? Factory.fromFile(path, Instance.class) : FastReader.readInstance(path);
+            String output = "data/"+instance.name+EXTENSION;
+            toFile(output, instance);
+            System.out.println(path+" -> "+output+" ("+new File(output).length()+" bytes)");
+        }
+    }
+}
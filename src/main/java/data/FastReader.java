@@ -0,0 +1,202 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import data.input.Instance;
+import data.input.RoadMaxBlock;
+import data.input.Worksheet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// Same output as Reader, but tokenises the memory-mapped file directly into ints
+public class FastReader {
+    private MappedByteBuffer buffer;
+    private int pos;
+    private int limit;
+
+    private FastReader(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        this.pos = 0;
+        this.limit = buffer.limit();
+    }
+
+    public static Instance readInstance(String path) throws IOException {
+        File file = new File(path);
+        try(RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            FastReader reader = new FastReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            Instance instance = reader.read();
+            instance.name = file.getName().substring(0, file.getName().length()-4);
+            return instance;
+        }
+    }
+
+    private Instance read() {
+        Instance instance = new Instance();
+
+        // Read instance info
+        instance.horizon = nextInt();
+        instance.roadsCost = new int[nextInt()][instance.horizon];
+        instance.workCenters = new int[nextInt()];
+        instance.worksheets = new Worksheet[nextInt()];
+        instance.nbActivities = nextInt();
+        nextLine();
+
+        // Read road info : id start:end:cost ...
+        for(int i = 0; i<instance.roadsCost.length; i++) {
+            nextInt();
+            while(!isEndOfLine()) {
+                int start = nextInt();
+                int end = nextInt();
+                int cost = nextInt();
+                for(int k = start; k<end; k++) {
+                    instance.roadsCost[i][k] = cost;
+                }
+            }
+            nextLine();
+        }
+
+        // Read work centers info
+        for(int i = 0; i<instance.workCenters.length; i++) {
+            nextInt();
+            instance.workCenters[i] = nextInt();
+            nextLine();
+        }
+
+        // Read worksheets info
+        for(int i = 0; i<instance.worksheets.length; i++) {
+            Worksheet worksheet = new Worksheet();
+            instance.worksheets[i] = worksheet;
+            worksheet.id = nextInt();
+            worksheet.workCenterID = nextInt();
+            worksheet.mandatory = nextInt();
+            worksheet.importance = nextInt();
+            worksheet.est = nextInt();
+            worksheet.lst = nextInt();
+            worksheet.duration = nextInt();
+            worksheet.roadsID = new int[worksheet.duration];
+            for(int j = 0; j<worksheet.duration; j++) {
+                worksheet.roadsID[j] = nextInt();
+            }
+            worksheet.amountOfWorkers = new int[worksheet.duration];
+            for(int j = 0; j<worksheet.duration; j++) {
+                worksheet.amountOfWorkers[j] = nextInt();
+            }
+            nextLine();
+        }
+
+        // Read road block
+        ArrayList<int[]> precedences = new ArrayList<>();
+        ArrayList<RoadMaxBlock> roadsBlocked = new ArrayList<>();
+        while(pos < limit) {
+            skipSeparators();
+            if(isEndOfLine()) {
+                nextLine();
+                continue;
+            }
+            byte type = buffer.get(pos++);
+            if(type == 'M') {
+                RoadMaxBlock rmb = new RoadMaxBlock();
+                roadsBlocked.add(rmb);
+                rmb.nbMaxBlocked = nextInt();
+                int[] roads = new int[8];
+                int nb = 0;
+                while(!isEndOfLine()) {
+                    if(nb == roads.length) {
+                        roads = Arrays.copyOf(roads, 2*nb);
+                    }
+                    roads[nb++] = nextInt();
+                }
+                rmb.roadsID = Arrays.copyOf(roads, nb);
+            } else if(type == 'P') {
+                int[] pred = new int[2];
+                precedences.add(pred);
+                pred[0] = nextInt();
+                pred[1] = nextInt();
+            } else {
+                throw new UnsupportedOperationException();
+            }
+            nextLine();
+        }
+        instance.roadsBlocked = roadsBlocked.toArray(new RoadMaxBlock[0]);
+        instance.precedences = precedences.toArray(new int[0][]);
+        return instance;
+    }
+
+    // Skips spaces, tabs and the ':' of the road intervals, but not line ends
+    private void skipSeparators() {
+        while(pos < limit) {
+            byte b = buffer.get(pos);
+            if(b != ' ' && b != '\t' && b != ':' && b != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private boolean isEndOfLine() {
+        skipSeparators();
+        return pos >= limit || buffer.get(pos) == '\n';
+    }
+
+    private void nextLine() {
+        while(pos < limit && buffer.get(pos) != '\n') {
+            pos++;
+        }
+        pos++;
+    }
+
+    private int nextInt() {
+        skipSeparators();
+        boolean negative = false;
+        if(buffer.get(pos) == '-') {
+            negative = true;
+            pos++;
+        }
+        int value = 0;
+        while(pos < limit) {
+            byte b = buffer.get(pos);
+            if(b < '0' || b > '9') {
+                break;
+            }
+            value = 10*value+(b-'0');
+            pos++;
+        }
+        return negative ? -value : value;
+    }
+
+    // Checks that FastReader and Reader agree on every file of data/Instances, then compares their loading times
+    public static void main(String[] args) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        File largest = null;
+        for(File f : new File("data/Instances").listFiles()) {
+            String expected = mapper.writeValueAsString(Reader.readInstance(f.getPath()));
+            String actual = mapper.writeValueAsString(readInstance(f.getPath()));
+            System.out.println(f.getName()+" : "+(expected.equals(actual) ? "OK" : "DIFFERENT"));
+            if(largest == null || largest.length() < f.length()) {
+                largest = f;
+            }
+        }
+
+        int nbRuns = 20;
+        long reader = Long.MAX_VALUE;
+        long fastReader = Long.MAX_VALUE;
+        for(int run = 0; run<nbRuns; run++) {
+            long time = System.nanoTime();
+            Reader.readInstance(largest.getPath());
+            reader = Math.min(reader, System.nanoTime()-time);
+            time = System.nanoTime();
+            readInstance(largest.getPath());
+            fastReader = Math.min(fastReader, System.nanoTime()-time);
+        }
+        System.out.println(largest.getName()+" : Reader "+reader/1000+"us, FastReader "+fastReader/1000+"us (best of "+nbRuns+")");
+    }
+}
@@ -105,7 +105,7 @@ public class Reader {
         File folder = new File("data/Instances");
         for(File f : folder.listFiles()) {
             System.out.println(f.getName());
-            Instance inst = readInstance(f.getPath());
+            Instance inst = FastReader.readInstance(f.getPath());
             Factory.toFile("data/"+inst.name+".json", inst);
         }
     }
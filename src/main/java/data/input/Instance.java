@@ -13,4 +13,29 @@ public class Instance {
     public RoadMaxBlock[] roadsBlocked;
     public int[][] precedences;
     public int nbActivities;
+
+    private RoadCosts roadCosts;
+    private PrecedenceGraph precedenceGraph;
+
+    // Interval encoded view of roadsCost, built on first use
+    public RoadCosts roadCosts() {
+        if(roadCosts == null) {
+            roadCosts = new RoadCosts(roadsCost, horizon);
+        }
+        return roadCosts;
+    }
+
+    // Replaces the precedences, see Presolve
+    void setPrecedences(int[][] precedences) {
+        this.precedences = precedences;
+        this.precedenceGraph = null;
+    }
+
+    // Index of precedences, built on first use
+    public PrecedenceGraph precedenceGraph() {
+        if(precedenceGraph == null) {
+            precedenceGraph = new PrecedenceGraph(this);
+        }
+        return precedenceGraph;
+    }
 }
@@ -0,0 +1,234 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package data.input;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+// Index of Instance.precedences, built once : compressed rows of successors and predecessors (the successors of w are
+// successors[successorsFrom[w]] to successors[successorsFrom[w+1]-1]), a topological order, the connected components,
+// and the number of precedence paths ending and starting at each worksheet. Transitive closures are built on first use.
+public class PrecedenceGraph {
+    private int[] successorsFrom;
+    private int[] successors;
+    private int[] predecessorsFrom;
+    private int[] predecessors;
+    private int[] order; // topological
+    private int[] position; // position[w] = index of w in order
+    private int[] nbAncestorPaths;
+    private int[] nbDescendantPaths;
+    private int[][] components;
+
+    // built on first use
+    private BitSet[] ancestors;
+    private BitSet[] descendants;
+    private int[] nbAncestors;
+    private int[] nbDescendants;
+
+    public PrecedenceGraph(Instance instance) {
+        int n = instance.worksheets.length;
+        successorsFrom = new int[n+1];
+        predecessorsFrom = new int[n+1];
+        for(int[] prec : instance.precedences) {
+            successorsFrom[prec[0]+1]++;
+            predecessorsFrom[prec[1]+1]++;
+        }
+        for(int w = 0; w<n; w++) {
+            successorsFrom[w+1] += successorsFrom[w];
+            predecessorsFrom[w+1] += predecessorsFrom[w];
+        }
+        successors = new int[instance.precedences.length];
+        predecessors = new int[instance.precedences.length];
+        int[] nbSucc = new int[n];
+        int[] nbPred = new int[n];
+        for(int[] prec : instance.precedences) {
+            successors[successorsFrom[prec[0]]+nbSucc[prec[0]]++] = prec[1];
+            predecessors[predecessorsFrom[prec[1]]+nbPred[prec[1]]++] = prec[0];
+        }
+
+        // Kahn's algorithm
+        order = new int[n];
+        int size = 0;
+        for(int w = 0; w<n; w++) {
+            if(nbPred[w] == 0) {
+                order[size++] = w;
+            }
+        }
+        for(int k = 0; k<size; k++) {
+            int u = order[k];
+            for(int s = successorsFrom[u]; s<successorsFrom[u+1]; s++) {
+                if(--nbPred[successors[s]] == 0) {
+                    order[size++] = successors[s];
+                }
+            }
+        }
+        if(size < n) {
+            throw new UnsupportedOperationException("the precedences of "+instance.name+" have a cycle");
+        }
+        position = new int[n];
+        for(int k = 0; k<n; k++) {
+            position[order[k]] = k;
+        }
+
+        // a path ending at v is either a precedence (u, v) or a path ending at u followed by it
+        nbAncestorPaths = new int[n];
+        for(int k = 0; k<n; k++) {
+            int v = order[k];
+            long sum = 0;
+            for(int p = predecessorsFrom[v]; p<predecessorsFrom[v+1]; p++) {
+                sum += 1+nbAncestorPaths[predecessors[p]];
+            }
+            nbAncestorPaths[v] = (int) Math.min(Integer.MAX_VALUE, sum);
+        }
+        nbDescendantPaths = new int[n];
+        for(int k = n-1; k>=0; k--) {
+            int u = order[k];
+            long sum = 0;
+            for(int s = successorsFrom[u]; s<successorsFrom[u+1]; s++) {
+                sum += 1+nbDescendantPaths[successors[s]];
+            }
+            nbDescendantPaths[u] = (int) Math.min(Integer.MAX_VALUE, sum);
+        }
+
+        components = computeComponents(instance);
+    }
+
+    // Connected components of the precedences, each one in topological order, without the worksheets having none
+    private int[][] computeComponents(Instance instance) {
+        int n = order.length;
+        int[] parent = new int[n];
+        for(int w = 0; w<n; w++) {
+            parent[w] = w;
+        }
+        for(int[] prec : instance.precedences) {
+            parent[find(parent, prec[0])] = find(parent, prec[1]);
+        }
+        List<List<Integer>> components = new ArrayList<>();
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        for(int w : order) {
+            if(successorsFrom[w+1] > successorsFrom[w] || predecessorsFrom[w+1] > predecessorsFrom[w]) {
+                int root = find(parent, w);
+                if(component[root] < 0) {
+                    component[root] = components.size();
+                    components.add(new ArrayList<>());
+                }
+                components.get(component[root]).add(w);
+            }
+        }
+        return components.stream().map(list -> list.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+    }
+
+    private static int find(int[] parent, int w) {
+        while(parent[w] != w) {
+            parent[w] = parent[parent[w]];
+            w = parent[w];
+        }
+        return w;
+    }
+
+    public int nbSuccessors(int w) {
+        return successorsFrom[w+1]-successorsFrom[w];
+    }
+
+    // k-th successor of w, for 0 <= k < nbSuccessors(w)
+    public int successor(int w, int k) {
+        return successors[successorsFrom[w]+k];
+    }
+
+    public int nbPredecessors(int w) {
+        return predecessorsFrom[w+1]-predecessorsFrom[w];
+    }
+
+    // k-th predecessor of w, for 0 <= k < nbPredecessors(w)
+    public int predecessor(int w, int k) {
+        return predecessors[predecessorsFrom[w]+k];
+    }
+
+    // Every worksheet, each one after its predecessors
+    public int[] topologicalOrder() {
+        return order;
+    }
+
+    public int position(int w) {
+        return position[w];
+    }
+
+    // Number of precedence paths ending at w : each ancestor of w counts once per path from it to w
+    public int nbAncestorPaths(int w) {
+        return nbAncestorPaths[w];
+    }
+
+    // Number of precedence paths starting at w
+    public int nbDescendantPaths(int w) {
+        return nbDescendantPaths[w];
+    }
+
+    public int[][] components() {
+        return components;
+    }
+
+    // Worksheets that have to end before w starts, if done
+    public BitSet ancestors(int w) {
+        if(ancestors == null) {
+            buildClosures();
+        }
+        return ancestors[w];
+    }
+
+    // Worksheets that have to start after w ends, if done
+    public BitSet descendants(int w) {
+        if(descendants == null) {
+            buildClosures();
+        }
+        return descendants[w];
+    }
+
+    public int nbAncestors(int w) {
+        if(nbAncestors == null) {
+            buildClosures();
+        }
+        return nbAncestors[w];
+    }
+
+    public int nbDescendants(int w) {
+        if(nbDescendants == null) {
+            buildClosures();
+        }
+        return nbDescendants[w];
+    }
+
+    // True if there is a path of precedences from u to v
+    public boolean precedes(int u, int v) {
+        return position[u] < position[v] && descendants(u).get(v);
+    }
+
+    private void buildClosures() {
+        int n = order.length;
+        BitSet[] ancestors = new BitSet[n];
+        for(int w : order) {
+            ancestors[w] = new BitSet();
+            for(int p = predecessorsFrom[w]; p<predecessorsFrom[w+1]; p++) {
+                ancestors[w].set(predecessors[p]);
+                ancestors[w].or(ancestors[predecessors[p]]);
+            }
+        }
+        BitSet[] descendants = new BitSet[n];
+        for(int k = n-1; k>=0; k--) {
+            int w = order[k];
+            descendants[w] = new BitSet();
+            for(int s = successorsFrom[w]; s<successorsFrom[w+1]; s++) {
+                descendants[w].set(successors[s]);
+                descendants[w].or(descendants[successors[s]]);
+            }
+        }
+        nbAncestors = Arrays.stream(ancestors).mapToInt(BitSet::cardinality).toArray();
+        nbDescendants = Arrays.stream(descendants).mapToInt(BitSet::cardinality).toArray();
+        this.descendants = descendants;
+        this.ancestors = ancestors;
+    }
+}
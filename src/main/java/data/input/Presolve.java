@@ -0,0 +1,206 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package data.input;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Reductions of an instance that keep every feasible solution, applied in place before building a model :
+// - a worksheet ends before the horizon, so lst <= horizon-duration;
+// - a worksheet needing more workers than its work center (MEDIUM and HARD) or using a road of a road block group of
+//   capacity 0 (HARD) is never done;
+// - a precedence only holds when both of its worksheets are done, so the windows are tightened along the precedences
+//   from the mandatory worksheets only (every worksheet of an EASY instance is mandatory) : est of v is at least the est
+//   of a mandatory predecessor plus its duration, lst of u is at most the lst of a mandatory successor minus duration
+//   of u. An optional worksheet whose window gets empty is never done;
+// - a precedence is dropped if one of its worksheets is never done, if the windows already order it, or if a path of
+//   other precedences through mandatory worksheets implies it.
+// Worksheets never done keep their window and are marked impossible, so that worksheets keep their ids. No optional
+// worksheet can be set done : doing it is never implied by the constraints, and may lower the objective.
+public class Presolve {
+    private int nbNarrowed; // worksheets whose window is narrower
+    private long nbStartsBefore;
+    private long nbStartsAfter;
+    private int nbImpossible;
+    private int nbPrecedencesBefore;
+    private int nbPrecedencesAfter;
+
+    public static Presolve run(Instance instance) {
+        Presolve presolve = new Presolve();
+        presolve.apply(instance);
+        return presolve;
+    }
+
+    private void apply(Instance instance) {
+        boolean easy = instance.name.contains("EASY");
+        boolean hard = !easy && !instance.name.contains("MEDIUM");
+        Worksheet[] worksheets = instance.worksheets;
+        int n = worksheets.length;
+        boolean[] mandatory = new boolean[n];
+        int[] est = new int[n];
+        int[] lst = new int[n];
+        for(int w = 0; w<n; w++) {
+            Worksheet ws = worksheets[w];
+            mandatory[w] = easy || ws.mandatory == 1;
+            est[w] = ws.est;
+            lst[w] = Math.min(ws.lst, instance.horizon-ws.duration);
+            nbStartsBefore += ws.lst-ws.est+1;
+            if(!ws.impossible && ((!easy && exceedsWorkCenter(instance, ws)) || (hard && usesClosedRoad(instance, ws)))) {
+                setImpossible(instance, ws, mandatory[w]);
+            }
+        }
+
+        PrecedenceGraph graph = instance.precedenceGraph();
+        int[] order = graph.topologicalOrder();
+        for(int v : order) {
+            for(int k = 0; k<graph.nbPredecessors(v); k++) {
+                int u = graph.predecessor(v, k);
+                if(mandatory[u]) {
+                    est[v] = Math.max(est[v], est[u]+worksheets[u].duration);
+                }
+            }
+        }
+        for(int k = n-1; k>=0; k--) {
+            int u = order[k];
+            for(int s = 0; s<graph.nbSuccessors(u); s++) {
+                int v = graph.successor(u, s);
+                if(mandatory[v]) {
+                    lst[u] = Math.min(lst[u], lst[v]-worksheets[u].duration);
+                }
+            }
+        }
+        for(int w = 0; w<n; w++) {
+            Worksheet ws = worksheets[w];
+            if(ws.impossible) {
+                continue;
+            }
+            if(est[w] > lst[w]) {
+                setImpossible(instance, ws, mandatory[w]);
+            } else if(est[w] > ws.est || lst[w] < ws.lst) {
+                nbNarrowed++;
+                ws.est = est[w];
+                ws.lst = lst[w];
+            }
+        }
+        for(Worksheet ws : worksheets) {
+            if(!ws.impossible) {
+                nbStartsAfter += ws.lst-ws.est+1;
+            }
+        }
+
+        nbPrecedencesBefore = instance.precedences.length;
+        instance.setPrecedences(dropRedundantPrecedences(instance, mandatory));
+        nbPrecedencesAfter = instance.precedences.length;
+    }
+
+    private static boolean exceedsWorkCenter(Instance instance, Worksheet ws) {
+        return Arrays.stream(ws.amountOfWorkers).anyMatch(workers -> workers > instance.workCenters[ws.workCenterID]);
+    }
+
+    private static boolean usesClosedRoad(Instance instance, Worksheet ws) {
+        for(RoadMaxBlock group : instance.roadsBlocked) {
+            if(group.nbMaxBlocked == 0) {
+                for(int road : ws.roadsID) {
+                    if(Arrays.stream(group.roadsID).anyMatch(r -> r == road)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private void setImpossible(Instance instance, Worksheet ws, boolean mandatory) {
+        if(mandatory) {
+            throw new IllegalStateException(instance.name+" : mandatory worksheet "+ws.id+" cannot be done");
+        }
+        ws.impossible = true;
+        nbImpossible++;
+    }
+
+    private static int[][] dropRedundantPrecedences(Instance instance, boolean[] mandatory) {
+        Worksheet[] worksheets = instance.worksheets;
+        int[][] precedences = instance.precedences;
+        boolean[] kept = new boolean[precedences.length];
+        for(int e = 0; e<precedences.length; e++) {
+            Worksheet u = worksheets[precedences[e][0]];
+            Worksheet v = worksheets[precedences[e][1]];
+            kept[e] = !u.impossible && !v.impossible && u.lst+u.duration > v.est;
+            for(int f = 0; f<e && kept[e]; f++) {
+                kept[e] = !kept[f] || !Arrays.equals(precedences[f], precedences[e]);
+            }
+        }
+        // a precedence implied by a path of other ones stays implied once dropped, as that path does not use it
+        for(int e = 0; e<precedences.length; e++) {
+            if(kept[e]) {
+                kept[e] = false;
+                kept[e] = !isImplied(precedences, kept, mandatory, precedences[e][0], precedences[e][1]);
+            }
+        }
+        int[][] reduced = new int[(int) IntStream.range(0, kept.length).filter(e -> kept[e]).count()][];
+        int k = 0;
+        for(int e = 0; e<precedences.length; e++) {
+            if(kept[e]) {
+                reduced[k++] = precedences[e];
+            }
+        }
+        return reduced;
+    }
+
+    // True if a path of kept precedences goes from u to v through mandatory worksheets only
+    private static boolean isImplied(int[][] precedences, boolean[] kept, boolean[] mandatory, int u, int v) {
+        boolean[] visited = new boolean[mandatory.length];
+        int[] stack = new int[mandatory.length];
+        int size = 0;
+        stack[size++] = u;
+        visited[u] = true;
+        while(size > 0) {
+            int w = stack[--size];
+            for(int e = 0; e<precedences.length; e++) {
+                if(kept[e] && precedences[e][0] == w) {
+                    int next = precedences[e][1];
+                    if(next == v) {
+                        return true;
+                    }
+                    if(mandatory[next] && !visited[next]) {
+                        visited[next] = true;
+                        stack[size++] = next;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    public int getNbNarrowed() {
+        return nbNarrowed;
+    }
+
+    public long getNbStartsBefore() {
+        return nbStartsBefore;
+    }
+
+    public long getNbStartsAfter() {
+        return nbStartsAfter;
+    }
+
+    public int getNbImpossible() {
+        return nbImpossible;
+    }
+
+    public int getNbPrecedencesBefore() {
+        return nbPrecedencesBefore;
+    }
+
+    public int getNbPrecedencesAfter() {
+        return nbPrecedencesAfter;
+    }
+
+    @Override
+    public String toString() {
+        return nbNarrowed+" windows narrowed, starts "+nbStartsBefore+" -> "+nbStartsAfter+", "+nbImpossible
+                +" worksheets never done, precedences "+nbPrecedencesBefore+" -> "+nbPrecedencesAfter;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package data.input;
+
+import java.util.Arrays;
+
+// Interval encoding of Instance.roadsCost : each road is a list of [start, next start) intervals of constant cost,
+// with the cumulated cost at each interval start so that range costs only need to locate two intervals.
+// An interval is located in constant time : the horizon of road r is cut in buckets of 2^shift[r] time steps, no longer
+// than its shortest interval, so that a bucket holds at most one interval start, and bucket[r][b] is the interval
+// containing the first time step of bucket b. The interval containing t is then bucket[r][t>>shift[r]] or the next one.
+// A road of constant cost has 1 or 2 buckets, and only roads with an interval of length 1 have one bucket per time step.
+public class RoadCosts {
+    private int horizon;
+    private int[][] starts; // starts[r][0] = 0
+    private int[][] costs;
+    private int[][] prefix; // prefix[r][k] = cost of road r over [0, starts[r][k])
+    private int[] shift;
+    private int[][] bucket;
+
+    public RoadCosts(int[][] roadsCost, int horizon) {
+        this.horizon = horizon;
+        starts = new int[roadsCost.length][];
+        costs = new int[roadsCost.length][];
+        prefix = new int[roadsCost.length][];
+        shift = new int[roadsCost.length];
+        bucket = new int[roadsCost.length][];
+        int[] tmpStarts = new int[horizon+1];
+        for(int r = 0; r<roadsCost.length; r++) {
+            int nb = 0;
+            for(int t = 0; t<horizon; t++) {
+                if(t == 0 || roadsCost[r][t] != roadsCost[r][t-1]) {
+                    tmpStarts[nb++] = t;
+                }
+            }
+            starts[r] = Arrays.copyOf(tmpStarts, nb);
+            costs[r] = new int[nb];
+            prefix[r] = new int[nb];
+            for(int k = 0; k<nb; k++) {
+                costs[r][k] = roadsCost[r][starts[r][k]];
+                if(k > 0) {
+                    prefix[r][k] = prefix[r][k-1]+(starts[r][k]-starts[r][k-1])*costs[r][k-1];
+                }
+            }
+            makeBuckets(r);
+        }
+    }
+
+    private void makeBuckets(int r) {
+        int minLength = horizon;
+        for(int k = 0; k<starts[r].length; k++) {
+            minLength = Math.min(minLength, end(r, k)-starts[r][k]);
+        }
+        shift[r] = 31-Integer.numberOfLeadingZeros(minLength);
+        bucket[r] = new int[((horizon-1)>>shift[r])+1];
+        for(int b = 0, k = 0; b<bucket[r].length; b++) {
+            while(end(r, k) <= b<<shift[r]) {
+                k++;
+            }
+            bucket[r][b] = k;
+        }
+    }
+
+    // Index of the interval of road r containing t, for 0 <= t < horizon
+    public int interval(int r, int t) {
+        int k = bucket[r][t>>shift[r]];
+        return k+1 < starts[r].length && starts[r][k+1] <= t ? k+1 : k;
+    }
+
+    // End (excluded) of interval k of road r
+    public int end(int r, int k) {
+        return k+1 < starts[r].length ? starts[r][k+1] : horizon;
+    }
+
+    // Cost of road r over interval k
+    public int intervalCost(int r, int k) {
+        return costs[r][k];
+    }
+
+    public int cost(int road, int t) {
+        return costs[road][interval(road, t)];
+    }
+
+    // Cost of road over [0, t), for 0 <= t <= horizon
+    public int prefixCost(int road, int t) {
+        if(t == 0) {
+            return 0;
+        }
+        int k = interval(road, t-1);
+        return prefix[road][k]+(t-starts[road][k])*costs[road][k];
+    }
+
+    // Cost of road over [from, to)
+    public int rangeCost(int road, int from, int to) {
+        return prefixCost(road, to)-prefixCost(road, from);
+    }
+
+    // Sum of the costs of all roads at each time step, from a difference array : each interval adds its cost at its
+    // start and removes it at its end, so that it takes intervals+horizon steps once the structure is built (building
+    // it reads the whole roads*horizon matrix)
+    public int[] totalCostPerTime() {
+        int[] total = new int[horizon+1];
+        for(int r = 0; r<starts.length; r++) {
+            for(int k = 0; k<starts[r].length; k++) {
+                total[starts[r][k]] += costs[r][k];
+                total[end(r, k)] -= costs[r][k];
+            }
+        }
+        for(int t = 1; t<horizon; t++) {
+            total[t] += total[t-1];
+        }
+        return Arrays.copyOf(total, horizon);
+    }
+
+    public int getNbIntervals() {
+        int nb = 0;
+        for(int[] s : starts) {
+            nb += s.length;
+        }
+        return nb;
+    }
+}
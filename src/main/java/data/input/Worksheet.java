@@ -14,4 +14,5 @@ public class Worksheet {
     public int duration;
     public int[] roadsID;
     public int[] amountOfWorkers;
+    public transient boolean impossible; // set by Presolve : never done in a feasible solution
 }
@@ -0,0 +1,144 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package eval;
+
+import data.input.Instance;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Writes results/<name>.txt from a background thread, so that solvers only copy their improving solutions.
+// offer keeps the latest solution beating the best known objective; the thread waits DEBOUNCE ms after a solution
+// arrives, so that a burst of solutions ends up in a single write of the last one. A write only happens if the
+// solution still beats the file on disk, which another run may have improved meanwhile, and goes through a temporary
+// file renamed over results/<name>.txt, so that a killed process never leaves a truncated file.
+public class BestSolutionWriter {
+    public static final long DEBOUNCE = 100; // ms
+    private static final ConcurrentHashMap<String, Object> LOCKS = new ConcurrentHashMap<>(); // writes of a same file
+
+    private Instance instance;
+    private Path path;
+    private Thread thread;
+
+    private int bestKnown;
+    private int[] pending; // starts, -1 when not done
+    private int pendingObjective;
+    private boolean hasPending;
+    private boolean closed;
+
+    public BestSolutionWriter(Instance instance) throws IOException {
+        this.instance = instance;
+        this.path = Paths.get("results/"+instance.name+".txt");
+        this.bestKnown = SolutionChecker.computeObjectiveOfSolution(instance, path.toString());
+        this.pending = new int[instance.worksheets.length];
+        this.thread = new Thread(this::run, "writer-"+instance.name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public synchronized int getBestKnown() {
+        return bestKnown;
+    }
+
+    // Copies starts (-1 when not done) to be written if objective beats the best known one, and returns true if so
+    public synchronized boolean offer(int objective, int[] starts) {
+        if(objective <= bestKnown || closed) {
+            return false;
+        }
+        bestKnown = objective;
+        System.arraycopy(starts, 0, pending, 0, pending.length);
+        pendingObjective = objective;
+        hasPending = true;
+        notifyAll();
+        return true;
+    }
+
+    // Same with a solution as lines (worksheet, start) of the done worksheets
+    public boolean offer(int objective, int[][] solution) {
+        return offer(objective, SolutionChecker.toStarts(instance, solution));
+    }
+
+    // Writes the last offered solution, if any, and stops the thread
+    public void close() {
+        synchronized(this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            thread.join();
+        } catch(InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        int[] starts = new int[pending.length];
+        while(true) {
+            int objective;
+            synchronized(this) {
+                while(!hasPending && !closed) {
+                    try {
+                        wait();
+                    } catch(InterruptedException ex) {
+                        return;
+                    }
+                }
+                if(!hasPending) {
+                    return;
+                }
+                long deadline = System.currentTimeMillis()+DEBOUNCE;
+                for(long left = DEBOUNCE; left > 0 && !closed; left = deadline-System.currentTimeMillis()) {
+                    try {
+                        wait(left);
+                    } catch(InterruptedException ex) {
+                        return;
+                    }
+                }
+                System.arraycopy(pending, 0, starts, 0, starts.length);
+                objective = pendingObjective;
+                hasPending = false;
+            }
+            try {
+                write(objective, starts);
+            } catch(IOException ex) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    private void write(int objective, int[] starts) throws IOException {
+        synchronized(LOCKS.computeIfAbsent(path.toAbsolutePath().toString(), p -> new Object())) {
+            if(SolutionChecker.computeObjectiveOfSolution(instance, path.toString()) >= objective) {
+                return;
+            }
+            Path tmp = Files.createTempFile(path.toAbsolutePath().getParent(), instance.name, ".tmp");
+            try {
+                PrintWriter writer = new PrintWriter(Files.newBufferedWriter(tmp));
+                for(int w = 0; w<starts.length; w++) {
+                    if(starts[w] >= 0) {
+                        writer.print(w+" "+starts[w]+"\n");
+                    }
+                }
+                writer.close();
+                if(writer.checkError()) {
+                    throw new IOException("could not write "+tmp);
+                }
+                try {
+                    Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch(AtomicMoveNotSupportedException ex) {
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package eval;
+
+import data.input.Instance;
+import data.input.RoadMaxBlock;
+import data.input.Worksheet;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Scanner;
+
+// Scores and checks a schedule directly on the instance arrays, without building a model
+public class SolutionChecker {
+
+    // Returns the {id, start} pairs of the done worksheets, or null if the file does not exist
+    public static int[][] readSolution(String path) throws IOException {
+        if(!new File(path).exists()) {
+            return null;
+        }
+        ArrayList<int[]> solution = new ArrayList<>();
+        Scanner scanner = new Scanner(new FileReader(path));
+        while(scanner.hasNextLine()) {
+            String[] line = scanner.nextLine().trim().split(" ");
+            if(line.length >= 2) {
+                solution.add(new int[]{Integer.parseInt(line[0]), Integer.parseInt(line[1])});
+            }
+        }
+        scanner.close();
+        return solution.toArray(new int[0][]);
+    }
+
+    // Returns start[w] for done worksheets and -1 for the other ones
+    public static int[] toStarts(Instance instance, int[][] solution) {
+        int[] starts = new int[instance.worksheets.length];
+        Arrays.fill(starts, -1);
+        for(int[] s : solution) {
+            starts[s[0]] = s[1];
+        }
+        return starts;
+    }
+
+    public static int computeObjective(Instance instance, int[] starts) {
+        int importance = 0;
+        for(int w = 0; w<starts.length; w++) {
+            if(starts[w] >= 0) {
+                importance += instance.worksheets[w].importance;
+            }
+        }
+        int maxPerturbation = 0;
+        for(int value : computePerturbation(instance, starts)) {
+            maxPerturbation = Math.max(maxPerturbation, value);
+        }
+        return importance-maxPerturbation;
+    }
+
+    // perturbation[t] = sum of the costs of the roads perturbed at time t
+    public static int[] computePerturbation(Instance instance, int[] starts) {
+        boolean[] perturbed = new boolean[instance.roadsCost.length*instance.horizon];
+        int[] perturbation = new int[instance.horizon];
+        for(int w = 0; w<starts.length; w++) {
+            if(starts[w] >= 0) {
+                Worksheet ws = instance.worksheets[w];
+                for(int j = 0; j<ws.duration; j++) {
+                    int t = starts[w]+j;
+                    int cell = ws.roadsID[j]*instance.horizon+t;
+                    if(!perturbed[cell]) {
+                        perturbed[cell] = true;
+                        perturbation[t] += instance.roadsCost[ws.roadsID[j]][t];
+                    }
+                }
+            }
+        }
+        return perturbation;
+    }
+
+    // Returns the violated constraints, empty if the schedule is feasible.
+    // Work centers are only checked for MEDIUM and HARD instances and road blocks for HARD ones, as in RNMP.
+    public static List<String> checkSolution(Instance instance, int[][] solution) {
+        List<String> violations = new ArrayList<>();
+        int[] starts = new int[instance.worksheets.length];
+        Arrays.fill(starts, -1);
+        for(int[] s : solution) {
+            if(s[0] < 0 || s[0] >= starts.length) {
+                violations.add("unknown worksheet "+s[0]);
+            } else if(starts[s[0]] >= 0) {
+                violations.add("worksheet "+s[0]+" scheduled twice");
+            } else {
+                starts[s[0]] = s[1];
+            }
+        }
+        if(!violations.isEmpty()) {
+            return violations;
+        }
+
+        for(int w = 0; w<starts.length; w++) {
+            Worksheet ws = instance.worksheets[w];
+            if(starts[w] < 0) {
+                if(ws.mandatory == 1 || instance.name.contains("EASY")) {
+                    violations.add("worksheet "+w+" is mandatory but not done");
+                }
+            } else if(starts[w] < ws.est || starts[w] > ws.lst || starts[w]+ws.duration > instance.horizon) {
+                violations.add("worksheet "+w+" starts at "+starts[w]+" out of ["+ws.est+", "+ws.lst+"]");
+            }
+        }
+        if(!violations.isEmpty()) {
+            return violations;
+        }
+
+        for(int[] prec : instance.precedences) {
+            int w1 = prec[0];
+            int w2 = prec[1];
+            if(starts[w1] >= 0 && starts[w2] >= 0 && starts[w1]+instance.worksheets[w1].duration > starts[w2]) {
+                violations.add("worksheet "+w1+" should end before worksheet "+w2+" starts");
+            }
+        }
+
+        if(!instance.name.contains("EASY")) {
+            int[][] workers = new int[instance.workCenters.length][instance.horizon];
+            for(int w = 0; w<starts.length; w++) {
+                if(starts[w] >= 0) {
+                    Worksheet ws = instance.worksheets[w];
+                    for(int j = 0; j<ws.duration; j++) {
+                        workers[ws.workCenterID][starts[w]+j] += ws.amountOfWorkers[j];
+                    }
+                }
+            }
+            for(int c = 0; c<workers.length; c++) {
+                for(int t = 0; t<instance.horizon; t++) {
+                    if(workers[c][t] > instance.workCenters[c]) {
+                        violations.add("work center "+c+" uses "+workers[c][t]+" > "+instance.workCenters[c]+" workers at time "+t);
+                    }
+                }
+            }
+        }
+
+        if(!instance.name.contains("EASY") && !instance.name.contains("MEDIUM")) {
+            boolean[] perturbed = new boolean[instance.roadsCost.length*instance.horizon];
+            for(int w = 0; w<starts.length; w++) {
+                if(starts[w] >= 0) {
+                    Worksheet ws = instance.worksheets[w];
+                    for(int j = 0; j<ws.duration; j++) {
+                        perturbed[ws.roadsID[j]*instance.horizon+starts[w]+j] = true;
+                    }
+                }
+            }
+            for(RoadMaxBlock rmb : instance.roadsBlocked) {
+                for(int t = 0; t<instance.horizon; t++) {
+                    int nbBlocked = 0;
+                    for(int road : rmb.roadsID) {
+                        if(perturbed[road*instance.horizon+t]) {
+                            nbBlocked++;
+                        }
+                    }
+                    if(nbBlocked > rmb.nbMaxBlocked) {
+                        violations.add(nbBlocked+" roads blocked at time "+t+" among "+Arrays.toString(rmb.roadsID)+" (max "+rmb.nbMaxBlocked+")");
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    // Returns the objective of the schedule stored in path, or Integer.MIN_VALUE if there is none or it is infeasible
+    public static int computeObjectiveOfSolution(Instance instance, String path) throws IOException {
+        int[][] solution = readSolution(path);
+        if(solution == null) {
+            return Integer.MIN_VALUE;
+        }
+        List<String> violations = checkSolution(instance, solution);
+        if(!violations.isEmpty()) {
+            System.out.println(path+" is infeasible : "+violations.get(0));
+            return Integer.MIN_VALUE;
+        }
+        return computeObjective(instance, toStarts(instance, solution));
+    }
+}
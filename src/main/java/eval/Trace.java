@@ -0,0 +1,199 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package eval;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// Objective over time of a solve : a point on each improving solution and every INTERVAL ms in between.
+// Written in traces/<instance>_<config>_<seed>.trace as
+//   # <instance> <config> <seed>
+//   # <name of neighborhood 0> <name of neighborhood 1> ...
+// then one line per point : time(ms) improving(0/1) objective(- if none yet) nodes fails restarts neighborhood(-1 if none)
+public class Trace {
+    public static final String DIRECTORY = "traces/";
+    public static final String EXTENSION = ".trace";
+    public static final long INTERVAL = 1000; // ms
+    public static final int NONE = Integer.MIN_VALUE;
+
+    private String instance;
+    private String config;
+    private long seed;
+    private String[] neighborhoods;
+
+    private long begin;
+    private long lastPoint;
+    private int best;
+
+    private TLongArrayList times;
+    private TIntArrayList improving;
+    private TIntArrayList objectives;
+    private TLongArrayList nodes;
+    private TLongArrayList fails;
+    private TLongArrayList restarts;
+    private TIntArrayList neighborhood;
+
+    public Trace(String instance, String config, long seed, String... neighborhoods) {
+        this.instance = instance;
+        this.config = config;
+        this.seed = seed;
+        this.neighborhoods = neighborhoods;
+        this.best = NONE;
+        this.times = new TLongArrayList();
+        this.improving = new TIntArrayList();
+        this.objectives = new TIntArrayList();
+        this.nodes = new TLongArrayList();
+        this.fails = new TLongArrayList();
+        this.restarts = new TLongArrayList();
+        this.neighborhood = new TIntArrayList();
+        start();
+    }
+
+    // Time 0 of the trace
+    public void start() {
+        begin = System.nanoTime();
+        lastPoint = 0;
+    }
+
+    // ms since start
+    public long elapsed() {
+        return (System.nanoTime()-begin)/1000000;
+    }
+
+    public boolean isDue() {
+        return elapsed()-lastPoint >= INTERVAL;
+    }
+
+    private void add(long time, boolean isImproving, long nbNodes, long nbFails, long nbRestarts, int neighbor) {
+        times.add(time);
+        improving.add(isImproving ? 1 : 0);
+        objectives.add(best);
+        nodes.add(nbNodes);
+        fails.add(nbFails);
+        restarts.add(nbRestarts);
+        neighborhood.add(neighbor);
+        lastPoint = time;
+    }
+
+    public void improve(int objective, long nbNodes, long nbFails, long nbRestarts, int neighbor) {
+        best = objective;
+        add(elapsed(), true, nbNodes, nbFails, nbRestarts, neighbor);
+    }
+
+    public void sample(long nbNodes, long nbFails, long nbRestarts, int neighbor) {
+        add(elapsed(), false, nbNodes, nbFails, nbRestarts, neighbor);
+    }
+
+    // Last point of the solve, unless a point was just recorded
+    public void end(long nbNodes, long nbFails, long nbRestarts, int neighbor) {
+        long time = elapsed();
+        if(size() == 0 || time > times.getQuick(size()-1)) {
+            add(time, false, nbNodes, nbFails, nbRestarts, neighbor);
+        }
+    }
+
+    public String getInstance() {
+        return instance;
+    }
+
+    public String getConfig() {
+        return config;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int size() {
+        return times.size();
+    }
+
+    public long getTime(int i) {
+        return times.getQuick(i);
+    }
+
+    // NONE before the first solution
+    public int getObjective(int i) {
+        return objectives.getQuick(i);
+    }
+
+    public int getBest() {
+        return best;
+    }
+
+    public String getPath() {
+        return DIRECTORY+instance+"_"+config+"_"+seed+EXTENSION;
+    }
+
+    public void write() throws IOException {
+        new File(DIRECTORY).mkdirs();
+        PrintWriter writer = new PrintWriter(new FileWriter(getPath()));
+        writer.println("# "+instance+" "+config+" "+seed);
+        writer.println("#"+(neighborhoods.length == 0 ? "" : " "+String.join(" ", neighborhoods)));
+        for(int i = 0; i<size(); i++) {
+            writer.println(times.getQuick(i)+" "+improving.getQuick(i)+" "+(objectives.getQuick(i) == NONE ? "-" : objectives.getQuick(i))
+                    +" "+nodes.getQuick(i)+" "+fails.getQuick(i)+" "+restarts.getQuick(i)+" "+neighborhood.getQuick(i));
+        }
+        writer.close();
+    }
+
+    public static Trace read(String path) throws IOException {
+        BufferedReader reader = new BufferedReader(new FileReader(path));
+        String[] header = reader.readLine().split(" ");
+        String names = reader.readLine().substring(1).trim();
+        Trace trace = new Trace(header[1], header[2], Long.parseLong(header[3]), names.isEmpty() ? new String[0] : names.split(" "));
+        String line;
+        while((line = reader.readLine()) != null) {
+            String[] values = line.split(" ");
+            trace.best = values[2].equals("-") ? NONE : Integer.parseInt(values[2]);
+            trace.add(Long.parseLong(values[0]), values[1].equals("1"), Long.parseLong(values[3]), Long.parseLong(values[4]),
+                    Long.parseLong(values[5]), Integer.parseInt(values[6]));
+        }
+        reader.close();
+        return trace;
+    }
+
+    // Primal gap of objective against reference, in [0, 1], 1 when there is no solution
+    public static double gap(int objective, int reference) {
+        if(objective == NONE) {
+            return 1;
+        }
+        if(objective >= reference) {
+            return 0;
+        }
+        return Math.min(1, (double) (reference-objective)/Math.max(Math.abs(reference), Math.abs(objective)));
+    }
+
+    // Integral of the primal gap over [0, end] in seconds : 0 for the reference found at once, end with no solution
+    public double primalIntegral(int reference, long end) {
+        double integral = 0;
+        long previous = 0;
+        int objective = NONE;
+        for(int i = 0; i<size() && times.getQuick(i) < end; i++) {
+            integral += gap(objective, reference)*(times.getQuick(i)-previous);
+            previous = times.getQuick(i);
+            objective = objectives.getQuick(i);
+        }
+        integral += gap(objective, reference)*(end-previous);
+        return integral/1000;
+    }
+
+    // First time (ms) the objective is within ratio of reference (gap <= 1-ratio), -1 if never
+    public long timeTo(double ratio, int reference) {
+        for(int i = 0; i<size(); i++) {
+            if(gap(objectives.getQuick(i), reference) <= 1-ratio+1e-9) {
+                return times.getQuick(i);
+            }
+        }
+        return -1;
+    }
+}
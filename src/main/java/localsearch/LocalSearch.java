@@ -0,0 +1,467 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package localsearch;
+
+import data.input.Instance;
+import data.input.PrecedenceGraph;
+import data.input.RoadMaxBlock;
+import data.input.Worksheet;
+import eval.BestSolutionWriter;
+import eval.SolutionChecker;
+import eval.Trace;
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.util.tools.TimeUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Local search working directly on the instance arrays, without Choco.
+// The schedule start[w] (-1 when w is not done) is always feasible : a move is only applied if every constraint
+// still holds, which is checked incrementally on the workers used per work center and time, the number of blocked
+// roads per road block and time, and the precedences of the moved worksheet.
+// The objective is kept up to date through the number of done worksheets perturbing each (road, time) cell.
+// Moves : shift the start of a done worksheet, toggle an optional worksheet, swap a done optional worksheet for
+// a not done one. Acceptance is simulated annealing or late acceptance hill climbing.
+public class LocalSearch {
+    public static final int SIMULATED_ANNEALING = 0;
+    public static final int LATE_ACCEPTANCE = 1;
+
+    public static final int LATE_ACCEPTANCE_LENGTH = 2000;
+    public static final double FINAL_TEMPERATURE_RATIO = 0.001;
+
+    private Instance instance;
+    private int horizon;
+    private int nbWorksheets;
+    private boolean checkWorkCenters;
+    private boolean checkRoadBlocks;
+    private long seed;
+    private Random random;
+
+    private boolean[] optional;
+    private int[] optionals;
+    private PrecedenceGraph precedences;
+    private int[][] blocksOfRoad;
+
+    // SCHEDULE
+    private int[] start;
+    private int nbDone;
+    private int[] done; // done[0..nbDone) are the done worksheets, position[w] is the index of w in done
+    private int[] position;
+    private int importance;
+    private int[] nbPerturbing; // road*horizon+t
+    private int[] perturbation;
+    private int[][] workers; // workers[center][t]
+    private int[][] blocked; // blocked[block][t]
+
+    private int[] best;
+    private int bestObj;
+
+    // STATISTICS OF THE LAST SOLVE
+    private long timeToBest; // ms
+    private long nbMoves;
+    private long nbAccepted;
+    private Trace trace;
+
+    public LocalSearch(Instance instance, long seed) {
+        this.instance = instance;
+        this.horizon = instance.horizon;
+        this.nbWorksheets = instance.worksheets.length;
+        this.checkWorkCenters = !instance.name.contains("EASY");
+        this.checkRoadBlocks = !instance.name.contains("EASY") && !instance.name.contains("MEDIUM");
+        this.seed = seed;
+        this.random = new Random(seed);
+
+        optional = new boolean[nbWorksheets];
+        TIntArrayList optionalList = new TIntArrayList();
+        for(int w = 0; w<nbWorksheets; w++) {
+            optional[w] = instance.worksheets[w].mandatory == 0 && !instance.worksheets[w].impossible
+                    && !instance.name.contains("EASY");
+            if(optional[w]) {
+                optionalList.add(w);
+            }
+        }
+        optionals = optionalList.toArray();
+
+        precedences = instance.precedenceGraph();
+
+        TIntArrayList[] blocks = new TIntArrayList[instance.roadsCost.length];
+        for(int r = 0; r<blocks.length; r++) {
+            blocks[r] = new TIntArrayList();
+        }
+        for(int b = 0; b<instance.roadsBlocked.length; b++) {
+            for(int road : instance.roadsBlocked[b].roadsID) {
+                blocks[road].add(b);
+            }
+        }
+        blocksOfRoad = Arrays.stream(blocks).map(TIntArrayList::toArray).toArray(int[][]::new);
+
+        start = new int[nbWorksheets];
+        Arrays.fill(start, -1);
+        done = new int[nbWorksheets];
+        position = new int[nbWorksheets];
+        nbPerturbing = new int[instance.roadsCost.length*horizon];
+        perturbation = new int[horizon];
+        workers = new int[instance.workCenters.length][horizon];
+        blocked = new int[instance.roadsBlocked.length][horizon];
+    }
+
+    // OBJECTIVE AND CONSTRAINTS
+
+    public int objective() {
+        int max = 0;
+        for(int t = 0; t<horizon; t++) {
+            max = Math.max(max, perturbation[t]);
+        }
+        return importance-max;
+    }
+
+    // True if w, which is not done, can start at s
+    private boolean canPlace(int w, int s) {
+        Worksheet ws = instance.worksheets[w];
+        if(s < ws.est || s > ws.lst || s+ws.duration > horizon) {
+            return false;
+        }
+        for(int k = 0; k<precedences.nbPredecessors(w); k++) {
+            int p = precedences.predecessor(w, k);
+            if(start[p] >= 0 && start[p]+instance.worksheets[p].duration > s) {
+                return false;
+            }
+        }
+        for(int k = 0; k<precedences.nbSuccessors(w); k++) {
+            int q = precedences.successor(w, k);
+            if(start[q] >= 0 && s+ws.duration > start[q]) {
+                return false;
+            }
+        }
+        for(int j = 0; j<ws.duration; j++) {
+            int t = s+j;
+            if(checkWorkCenters && workers[ws.workCenterID][t]+ws.amountOfWorkers[j] > instance.workCenters[ws.workCenterID]) {
+                return false;
+            }
+            if(checkRoadBlocks && nbPerturbing[ws.roadsID[j]*horizon+t] == 0) {
+                for(int b : blocksOfRoad[ws.roadsID[j]]) {
+                    if(blocked[b][t] >= instance.roadsBlocked[b].nbMaxBlocked) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void place(int w, int s) {
+        Worksheet ws = instance.worksheets[w];
+        start[w] = s;
+        position[w] = nbDone;
+        done[nbDone++] = w;
+        importance += ws.importance;
+        for(int j = 0; j<ws.duration; j++) {
+            int t = s+j;
+            int road = ws.roadsID[j];
+            if(nbPerturbing[road*horizon+t]++ == 0) {
+                perturbation[t] += instance.roadsCost[road][t];
+                for(int b : blocksOfRoad[road]) {
+                    blocked[b][t]++;
+                }
+            }
+            workers[ws.workCenterID][t] += ws.amountOfWorkers[j];
+        }
+    }
+
+    private void remove(int w) {
+        Worksheet ws = instance.worksheets[w];
+        int s = start[w];
+        start[w] = -1;
+        int last = done[--nbDone];
+        done[position[w]] = last;
+        position[last] = position[w];
+        importance -= ws.importance;
+        for(int j = 0; j<ws.duration; j++) {
+            int t = s+j;
+            int road = ws.roadsID[j];
+            if(--nbPerturbing[road*horizon+t] == 0) {
+                perturbation[t] -= instance.roadsCost[road][t];
+                for(int b : blocksOfRoad[road]) {
+                    blocked[b][t]--;
+                }
+            }
+            workers[ws.workCenterID][t] -= ws.amountOfWorkers[j];
+        }
+    }
+
+    // INITIAL SOLUTION
+
+    // Places the mandatory worksheets in topological order at their feasible start of least objective loss,
+    // then adds the optional worksheets by decreasing importance when they improve the objective
+    public void greedy() {
+        int[] latest = new int[nbWorksheets];
+        int[] order = precedences.topologicalOrder();
+        for(int k = nbWorksheets-1; k>=0; k--) {
+            int w = order[k];
+            latest[w] = instance.worksheets[w].lst;
+            for(int i = 0; i<precedences.nbSuccessors(w); i++) {
+                int q = precedences.successor(w, i);
+                if(!optional[q] && !instance.worksheets[q].impossible) {
+                    latest[w] = Math.min(latest[w], latest[q]-instance.worksheets[w].duration);
+                }
+            }
+        }
+        for(int w : order) {
+            if(!optional[w] && !instance.worksheets[w].impossible) {
+                int s = bestStart(w, latest[w]);
+                if(s == -1) {
+                    throw new IllegalStateException(instance.name+" : no feasible start found for mandatory worksheet "+w);
+                }
+                place(w, s);
+            }
+        }
+        Integer[] byImportance = Arrays.stream(optionals).boxed().toArray(Integer[]::new);
+        Arrays.sort(byImportance, (a, b) -> Integer.compare(instance.worksheets[b].importance, instance.worksheets[a].importance));
+        for(int w : byImportance) {
+            int before = objective();
+            int s = bestStart(w, instance.worksheets[w].lst);
+            if(s != -1) {
+                place(w, s);
+                if(objective() <= before) {
+                    remove(w);
+                }
+            }
+        }
+        saveBest();
+    }
+
+    // Feasible start of w in [est, latest] of best objective, the earliest one on ties, or -1
+    private int bestStart(int w, int latest) {
+        int bestS = -1;
+        int bestValue = Integer.MIN_VALUE;
+        for(int s = instance.worksheets[w].est; s<=latest; s++) {
+            if(canPlace(w, s)) {
+                place(w, s);
+                int value = objective();
+                remove(w);
+                if(value > bestValue) {
+                    bestValue = value;
+                    bestS = s;
+                }
+            }
+        }
+        return bestS;
+    }
+
+    private void saveBest() {
+        best = start.clone();
+        bestObj = objective();
+    }
+
+    // MOVES : w1 (and w2 for swaps) with their starts before the move, -1 if not done
+
+    private int w1, old1, w2, old2;
+
+    private int randomStart(int w) {
+        Worksheet ws = instance.worksheets[w];
+        if(start[w] >= 0 && random.nextBoolean()) {
+            int shift = 1+random.nextInt(3);
+            return random.nextBoolean() ? start[w]+shift : start[w]-shift;
+        }
+        return ws.est+random.nextInt(ws.lst-ws.est+1);
+    }
+
+    // Applies a random move if it is feasible and returns true, returns false otherwise
+    private boolean move() {
+        w2 = -1;
+        int kind = optionals.length == 0 ? 0 : random.nextInt(3);
+        if(kind == 0) {
+            if(nbDone == 0) {
+                return false;
+            }
+            w1 = done[random.nextInt(nbDone)];
+            old1 = start[w1];
+            int s = randomStart(w1);
+            remove(w1);
+            if(canPlace(w1, s)) {
+                place(w1, s);
+                return true;
+            }
+            place(w1, old1);
+            return false;
+        }
+        w1 = optionals[random.nextInt(optionals.length)];
+        old1 = start[w1];
+        if(kind == 1) {
+            if(old1 >= 0) {
+                remove(w1);
+                return true;
+            }
+            int s = randomStart(w1);
+            if(canPlace(w1, s)) {
+                place(w1, s);
+                return true;
+            }
+            return false;
+        }
+        w2 = optionals[random.nextInt(optionals.length)];
+        old2 = start[w2];
+        if(old1 < 0 || old2 >= 0) {
+            return false;
+        }
+        remove(w1);
+        int s = randomStart(w2);
+        if(canPlace(w2, s)) {
+            place(w2, s);
+            return true;
+        }
+        place(w1, old1);
+        return false;
+    }
+
+    private void undo() {
+        if(w2 >= 0) {
+            remove(w2);
+        }
+        if(start[w1] >= 0) {
+            remove(w1);
+        }
+        if(old1 >= 0) {
+            place(w1, old1);
+        }
+    }
+
+    // SEARCH
+
+    public int[][] solve(String timeLimit, int acceptance) {
+        trace = new Trace(instance.name, acceptance == LATE_ACCEPTANCE ? "lahc" : "sa", seed);
+        if(best == null) {
+            greedy();
+        }
+        System.out.println(instance.name+" -> "+bestObj+" (greedy)");
+        trace.improve(bestObj, 0, 0, 0, -1);
+        long limit = TimeUtils.convertInMilliseconds(timeLimit);
+        long begin = System.currentTimeMillis();
+        long lastPrint = begin;
+        int current = objective();
+        int[] history = new int[LATE_ACCEPTANCE_LENGTH];
+        Arrays.fill(history, current);
+        double initialTemperature = estimateTemperature();
+        double temperature = initialTemperature;
+        timeToBest = 0;
+        nbMoves = 0;
+        nbAccepted = 0;
+        long now = begin;
+        for(long it = 0; now-begin < limit; it++) {
+            if((it & 1023) == 0) {
+                now = System.currentTimeMillis();
+                temperature = initialTemperature*Math.pow(FINAL_TEMPERATURE_RATIO, (double) (now-begin)/limit);
+                if(trace.isDue()) {
+                    trace.sample(nbMoves, nbMoves-nbAccepted, 0, -1);
+                }
+            }
+            if(!move()) {
+                continue;
+            }
+            nbMoves++;
+            int candidate = objective();
+            boolean accept;
+            if(acceptance == LATE_ACCEPTANCE) {
+                int v = (int) (nbMoves%LATE_ACCEPTANCE_LENGTH);
+                accept = candidate >= current || candidate >= history[v];
+                if(accept) {
+                    current = candidate;
+                }
+                history[v] = current;
+            } else {
+                accept = candidate >= current || random.nextDouble() < Math.exp((candidate-current)/temperature);
+                if(accept) {
+                    current = candidate;
+                }
+            }
+            if(!accept) {
+                undo();
+                continue;
+            }
+            nbAccepted++;
+            if(current > bestObj) {
+                saveBest();
+                timeToBest = now-begin;
+                trace.improve(bestObj, nbMoves, nbMoves-nbAccepted, 0, -1);
+                if(now-lastPrint >= 1000) {
+                    System.out.println(instance.name+" -> "+bestObj);
+                    lastPrint = now;
+                }
+            }
+        }
+        System.out.println(instance.name+" -> "+bestObj+" ("+nbMoves+" moves, "+nbAccepted+" accepted)");
+        trace.end(nbMoves, nbMoves-nbAccepted, 0, -1);
+        try {
+            trace.write();
+        } catch(IOException ex) {
+            ex.printStackTrace();
+        }
+        return getSolution(best);
+    }
+
+    public int getBestObjective() {
+        return bestObj;
+    }
+
+    public long getTimeToBest() {
+        return timeToBest;
+    }
+
+    public long getNbMoves() {
+        return nbMoves;
+    }
+
+    public long getNbAccepted() {
+        return nbAccepted;
+    }
+
+    public Trace getTrace() {
+        return trace;
+    }
+
+    // Average absolute objective change of random feasible moves
+    private double estimateTemperature() {
+        int current = objective();
+        long sum = 0;
+        int nb = 0;
+        for(int k = 0; k<1000; k++) {
+            if(move()) {
+                sum += Math.abs(objective()-current);
+                nb++;
+                undo();
+            }
+        }
+        return Math.max(1, nb == 0 ? 1 : (double) sum/nb);
+    }
+
+    private static int[][] getSolution(int[] starts) {
+        int nb = (int) Arrays.stream(starts).filter(s -> s >= 0).count();
+        int[][] solution = new int[nb][2];
+        int k = 0;
+        for(int w = 0; w<starts.length; w++) {
+            if(starts[w] >= 0) {
+                solution[k][0] = w;
+                solution[k][1] = starts[w];
+                k++;
+            }
+        }
+        return solution;
+    }
+
+    // Runs the local search and writes results/<name>.txt if the schedule beats it
+    public static void solve(Instance instance, String timeLimit, int acceptance) throws IOException {
+        BestSolutionWriter writer = new BestSolutionWriter(instance);
+        LocalSearch ls = new LocalSearch(instance, 0);
+        int[][] best = ls.solve(timeLimit, acceptance);
+        List<String> violations = SolutionChecker.checkSolution(instance, best);
+        if(!violations.isEmpty()) {
+            throw new IllegalStateException(instance.name+" : local search schedule is infeasible : "+violations.get(0));
+        }
+        writer.offer(ls.bestObj, best);
+        writer.close();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import data.input.RoadCosts;
+import data.input.Worksheet;
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+
+// Returns the start of a worksheet that perturbs the least roads not perturbed yet (first one on ties).
+// The increase of every start is computed in one pass per activity along the row of its road,
+// instead of one pass over the activities per start, reading the costs of that row interval by interval from
+// Instance.roadCosts().
+// With the cache, the increases of a worksheet over [est, lst] are kept until one of the cells they cover gets
+// instantiated : stamp[w] is a reversible int set to a fresh value each time it happens, so that backtracking
+// restores the stamp of the matching cache.
+public class BestStartSelector {
+    private Instance instance;
+    private RoadCosts roadCosts;
+    private BoolVar[][] roadsPerturbation;
+    private int[] increases;
+
+    private boolean cache;
+    private IStateInt[] stamp;
+    private int nbStamps;
+    private int[][] cachedIncreases;
+    private int[] cachedStamp;
+
+    public BestStartSelector(Instance instance, BoolVar[][] roadsPerturbation, boolean cache) {
+        this.instance = instance;
+        this.roadCosts = instance.roadCosts();
+        this.roadsPerturbation = roadsPerturbation;
+        this.increases = new int[instance.horizon];
+        this.cache = cache;
+        if(cache) {
+            makeCache();
+        }
+    }
+
+    private void makeCache() {
+        int nbWorksheets = instance.worksheets.length;
+        stamp = new IStateInt[nbWorksheets];
+        cachedIncreases = new int[nbWorksheets][];
+        cachedStamp = new int[nbWorksheets];
+        for(int w = 0; w<nbWorksheets; w++) {
+            stamp[w] = roadsPerturbation[0][0].getModel().getEnvironment().makeInt(0);
+            cachedStamp[w] = -1;
+        }
+        // worksheets covering each cell road*horizon+t
+        TIntArrayList[] covering = new TIntArrayList[instance.roadsCost.length*instance.horizon];
+        for(int w = 0; w<nbWorksheets; w++) {
+            Worksheet ws = instance.worksheets[w];
+            for(int k = 0; k<ws.duration; k++) {
+                for(int t = ws.est+k; t<=ws.lst+k && t<instance.horizon; t++) {
+                    int cell = ws.roadsID[k]*instance.horizon+t;
+                    if(covering[cell] == null) {
+                        covering[cell] = new TIntArrayList();
+                    }
+                    if(covering[cell].isEmpty() || covering[cell].getQuick(covering[cell].size()-1) != w) {
+                        covering[cell].add(w);
+                    }
+                }
+            }
+        }
+        for(int cell = 0; cell<covering.length; cell++) {
+            BoolVar var = roadsPerturbation[cell/instance.horizon][cell%instance.horizon];
+            if(covering[cell] != null && !var.isInstantiated()) {
+                int[] worksheets = covering[cell].toArray();
+                var.addMonitor((IVariableMonitor<BoolVar>) (v, evt) -> {
+                    for(int w : worksheets) {
+                        stamp[w].set(++nbStamps);
+                    }
+                });
+            }
+        }
+    }
+
+    public int bestStart(int id, IntVar start) {
+        int[] inc;
+        int offset;
+        if(cache) {
+            Worksheet ws = instance.worksheets[id];
+            if(cachedStamp[id] != stamp[id].get()) {
+                if(cachedIncreases[id] == null) {
+                    cachedIncreases[id] = new int[ws.lst-ws.est+1];
+                }
+                computeIncreases(id, ws.est, ws.lst, cachedIncreases[id]);
+                cachedStamp[id] = stamp[id].get();
+            }
+            inc = cachedIncreases[id];
+            offset = ws.est;
+        } else {
+            computeIncreases(id, start.getLB(), start.getUB(), increases);
+            inc = increases;
+            offset = start.getLB();
+        }
+        int bestStart = -1;
+        int lessInc = Integer.MAX_VALUE;
+        int ub = start.getUB();
+        for(int t = start.getLB(); t<=ub; t = start.nextValue(t)) {
+            if(inc[t-offset] < lessInc) {
+                lessInc = inc[t-offset];
+                bestStart = t;
+            }
+        }
+        return bestStart;
+    }
+
+    // inc[t-from] = sum of the costs of the cells not instantiated yet that worksheet id covers if it starts at t
+    private void computeIncreases(int id, int from, int to, int[] inc) {
+        Worksheet ws = instance.worksheets[id];
+        int length = to-from+1;
+        for(int t = 0; t<length; t++) {
+            inc[t] = 0;
+        }
+        for(int k = 0; k<ws.duration; k++) {
+            int road = ws.roadsID[k];
+            BoolVar[] row = roadsPerturbation[road];
+            for(int i = roadCosts.interval(road, from+k), t = 0; t<length; i++) {
+                int cost = roadCosts.intervalCost(road, i);
+                int end = Math.min(length, roadCosts.end(road, i)-from-k);
+                for(; t<end; t++) {
+                    if(!row[from+k+t].isInstantiated()) {
+                        inc[t] += cost;
+                    }
+                }
+            }
+        }
+    }
+
+    // Former selection : one pass over the activities of the worksheet for each start
+    public int naiveBestStart(int id, IntVar start) {
+        Worksheet ws = instance.worksheets[id];
+        int bestStart = -1;
+        int lessInc = Integer.MAX_VALUE;
+        for(int t = start.getLB(); t<=start.getUB(); t = start.nextValue(t)) {
+            int inc = 0;
+            for(int k = 0; k<ws.duration; k++) {
+                if(!roadsPerturbation[ws.roadsID[k]][t+k].isInstantiated()) {
+                    inc += instance.roadsCost[ws.roadsID[k]][t+k];
+                }
+            }
+            if(inc < lessInc) {
+                lessInc = inc;
+                bestStart = t;
+            }
+        }
+        return bestStart;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+// Home-made variable selection with reversible indexes instead of linear scans over the worksheets.
+// With isDone (RNMP) : the start of the first done worksheet not scheduled yet, else isDone of the undecided worksheet
+// of highest priority, else the first start not instantiated.
+// Without isDone (RNMPEasy) : the start of the unscheduled worksheet of highest priority.
+// Ties are broken by lowest index, as the linear scans did.
+public class IndexedWorksheetSelector implements VariableSelector<IntVar> {
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private IntVar[] starts;
+    private BoolVar[] isDone;
+
+    private int[] order; // worksheets by decreasing priority, then increasing index
+    private IStateInt nextInOrder;
+    private IStateInt nextStart;
+
+    // segment tree over the worksheets : pending[node] = lowest done worksheet of the subtree whose start is not instantiated
+    private int size;
+    private IStateInt[] pending;
+
+    public IndexedWorksheetSelector(IntVar[] starts, BoolVar[] isDone, int[] priorities) {
+        this.starts = starts;
+        this.isDone = isDone;
+        IEnvironment environment = starts[0].getModel().getEnvironment();
+        this.order = Arrays.stream(sortByPriority(priorities)).mapToInt(Integer::intValue).toArray();
+        this.nextInOrder = environment.makeInt(0);
+        this.nextStart = environment.makeInt(0);
+
+        if(isDone != null) {
+            size = 1;
+            while(size < starts.length) {
+                size *= 2;
+            }
+            pending = new IStateInt[2*size];
+            for(int node = 1; node<pending.length; node++) {
+                pending[node] = environment.makeInt(NONE);
+            }
+            for(int i = 0; i<starts.length; i++) {
+                final int id = i;
+                IVariableMonitor<IntVar> monitor = (var, evt) -> updatePending(id);
+                starts[i].addMonitor(monitor);
+                isDone[i].addMonitor(monitor);
+                updatePending(i);
+            }
+        }
+    }
+
+    private static Integer[] sortByPriority(int[] priorities) {
+        Integer[] order = new Integer[priorities.length];
+        for(int i = 0; i<order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> priorities[a] != priorities[b] ? Integer.compare(priorities[b], priorities[a]) : Integer.compare(a, b));
+        return order;
+    }
+
+    private void updatePending(int i) {
+        int value = isDone[i].isInstantiatedTo(1) && !starts[i].isInstantiated() ? i : NONE;
+        int node = size+i;
+        if(pending[node].get() == value) {
+            return;
+        }
+        pending[node].set(value);
+        for(node /= 2; node >= 1; node /= 2) {
+            int min = Math.min(pending[2*node].get(), pending[2*node+1].get());
+            if(pending[node].get() == min) {
+                return;
+            }
+            pending[node].set(min);
+        }
+    }
+
+    @Override
+    public IntVar getVariable(IntVar[] variables) {
+        if(isDone == null) {
+            int k = nextInOrder.get();
+            while(k < order.length && starts[order[k]].isInstantiated()) {
+                k++;
+            }
+            nextInOrder.set(k);
+            return k < order.length ? starts[order[k]] : null;
+        }
+
+        int first = pending[1].get();
+        if(first != NONE) {
+            return starts[first];
+        }
+        int k = nextInOrder.get();
+        while(k < order.length && isDone[order[k]].isInstantiated()) {
+            k++;
+        }
+        nextInOrder.set(k);
+        if(k < order.length) {
+            return isDone[order[k]];
+        }
+        k = nextStart.get();
+        while(k < starts.length && starts[k].isInstantiated()) {
+            k++;
+        }
+        nextStart.set(k);
+        return k < starts.length ? starts[k] : null;
+    }
+}
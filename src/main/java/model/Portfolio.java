@@ -0,0 +1,77 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import eval.BestSolutionWriter;
+import model.lns.AdaptiveNeighbor;
+import model.lns.FragmentLimits;
+import model.lns.RNMPNeighbors;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ParallelPortfolio;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Copies of RNMP (or RNMPEasy) sharing their best bound : copy 0 runs a complete search, the other ones run adaptive LNS,
+// searches cycle through home-made, random and input order UB and each copy is seeded with its index
+public class Portfolio {
+    private Instance instance;
+    private ParallelPortfolio portfolio;
+    private List<IntVar> objectives;
+    private List<Supplier<int[][]>> solutions;
+
+    public Portfolio(Instance instance, int nbModels) {
+        this.instance = instance;
+        portfolio = new ParallelPortfolio(false);
+        objectives = new ArrayList<>();
+        solutions = new ArrayList<>();
+        for(int i = 0; i<nbModels; i++) {
+            int searchType = i%3;
+            if(instance.name.contains("EASY")) {
+                RNMPEasy rnmpEasy = new RNMPEasy(instance, searchType, i);
+                IntVar[] starts = Arrays.stream(rnmpEasy.tasks).map(t -> t.getStart()).toArray(IntVar[]::new);
+                add(rnmpEasy.model, rnmpEasy.obj, i>0 ? RNMPNeighbors.adaptive(instance, null, starts, i) : null, rnmpEasy::getSolution);
+            } else {
+                RNMP rnmp = new RNMP(instance, searchType, i);
+                IntVar[] starts = Arrays.stream(rnmp.tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new);
+                add(rnmp.model, rnmp.obj, i>0 ? RNMPNeighbors.adaptive(instance, rnmp.isDone, starts, i) : null, rnmp::getSolution);
+            }
+        }
+    }
+
+    private void add(Model model, IntVar obj, AdaptiveNeighbor neighbor, Supplier<int[][]> solution) {
+        if(neighbor != null) {
+            model.getSolver().setLNS(neighbor, new FragmentLimits(model.getSolver(), neighbor, instance.worksheets.length));
+        }
+        portfolio.addModel(model);
+        objectives.add(obj);
+        solutions.add(solution);
+    }
+
+    public void solve(String timeLimit) throws IOException, ContradictionException {
+        for(Model model : portfolio.getModels()) {
+            model.getSolver().limitTime(timeLimit);
+        }
+        BestSolutionWriter writer = new BestSolutionWriter(instance);
+
+        while(portfolio.solve()) {
+            int idx = portfolio.getModels().indexOf(portfolio.getBestModel());
+            int objValue = objectives.get(idx).getValue();
+            System.out.println(instance.name+" -> "+objValue+" (model "+idx+")");
+            writer.offer(objValue, solutions.get(idx).get());
+        }
+        writer.close();
+
+        for(Model model : portfolio.getModels()) {
+            model.getSolver().printShortStatistics();
+        }
+    }
+}
@@ -5,7 +5,9 @@
 package model;
 
 import data.input.Instance;
-import org.chocosolver.solver.constraints.Propagator;
+import model.profiling.ProfiledPropagator;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -17,18 +19,26 @@ import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.Arrays;
 
-public class PropChannelingRoadPerturbation extends Propagator<IntVar> {
+public class PropChannelingRoadPerturbation extends ProfiledPropagator {
     private BoolVar[][] roadsPerturbation;
     private Task[][] tasks;
     private BoolVar[] isDone;
     private Instance instance;
 
+    // (road, time) cells that some worksheet can cover, as road*horizon+time
+    private int[] reachableCells;
+    private IStateInt nbWorksheetsFixed;
+    private IStateBitSet channelled;
+
     public PropChannelingRoadPerturbation(Instance instance, Task[][] tasks, BoolVar[] isDone, BoolVar[][] roadsPerturbation) {
-        super(extractVars(tasks, isDone), PropagatorPriority.VERY_SLOW, false);
+        super(extractVars(tasks, isDone), PropagatorPriority.VERY_SLOW, true);
         this.instance = instance;
         this.tasks = tasks;
         this.isDone = isDone;
         this.roadsPerturbation = roadsPerturbation;
+        this.reachableCells = computeReachableCells(instance);
+        this.nbWorksheetsFixed = model.getEnvironment().makeInt(0);
+        this.channelled = model.getEnvironment().makeBitSet(isDone.length);
     }
 
     private static IntVar[] extractVars(Task[][] tasks, BoolVar[] isDone) {
@@ -36,6 +46,34 @@ public class PropChannelingRoadPerturbation extends Propagator<IntVar> {
                 isDone);
     }
 
+    public static int[] computeReachableCells(Instance instance) {
+        boolean[] reachable = new boolean[instance.roadsCost.length*instance.horizon];
+        int nb = 0;
+        for(int i = 0; i<instance.worksheets.length; i++) {
+            if(instance.worksheets[i].impossible) {
+                continue;
+            }
+            int[] activities = instance.worksheets[i].roadsID;
+            for(int j = 0; j<activities.length; j++) {
+                for(int t = instance.worksheets[i].est+j; t<=instance.worksheets[i].lst+j && t<instance.horizon; t++) {
+                    int cell = activities[j]*instance.horizon+t;
+                    if(!reachable[cell]) {
+                        reachable[cell] = true;
+                        nb++;
+                    }
+                }
+            }
+        }
+        int[] cells = new int[nb];
+        int k = 0;
+        for(int cell = 0; cell<reachable.length; cell++) {
+            if(reachable[cell]) {
+                cells[k++] = cell;
+            }
+        }
+        return cells;
+    }
+
     @Override
     public int getPropagationConditions(int idx) {
         return IntEventType.instantiation();
@@ -48,26 +86,46 @@ public class PropChannelingRoadPerturbation extends Propagator<IntVar> {
     }
 
     @Override
-    public void propagate(int evtmask) throws ContradictionException {
-        int nbWorksheetsFixed = 0;
-        for(int i = 0; i<isDone.length; i++) {
-            if(isDone[i].isInstantiated() && tasks[i][0].getStart().isInstantiated()) {
-                nbWorksheetsFixed++;
-            }
-            if(isDone[i].isInstantiatedTo(1) && tasks[i][0].getStart().isInstantiated()) {
-                int[] activities = instance.worksheets[i].roadsID;
-                int startTime = tasks[i][0].getStart().getValue();
-                for(int j = 0; j<activities.length; j++) {
-                    roadsPerturbation[activities[j]][startTime+j].instantiateTo(1, this);
+    public void filter(int evtmask) throws ContradictionException {
+        int k = 0;
+        for(int i = 0; i<roadsPerturbation.length; i++) {
+            for(int j = 0; j<roadsPerturbation[i].length; j++) {
+                if(k<reachableCells.length && reachableCells[k] == i*instance.horizon+j) {
+                    k++;
+                } else {
+                    roadsPerturbation[i][j].instantiateTo(0, this);
                 }
             }
         }
-        if(nbWorksheetsFixed == isDone.length) {
-            for(int i = 0; i<roadsPerturbation.length; i++) {
-                for(int j = 0; j<roadsPerturbation[i].length; j++) {
-                    if(!roadsPerturbation[i][j].isInstantiated()) {
-                        roadsPerturbation[i][j].instantiateTo(0, this);
-                    }
+        for(int i = 0; i<isDone.length; i++) {
+            channel(i);
+        }
+    }
+
+    @Override
+    public void filter(int idxVarInProp, int mask) throws ContradictionException {
+        channel(idxVarInProp < isDone.length ? idxVarInProp : idxVarInProp-isDone.length);
+    }
+
+    // Channels worksheet i once it is fixed, then fixes the remaining perturbations once every worksheet is
+    private void channel(int i) throws ContradictionException {
+        if(channelled.get(i) || !isDone[i].isInstantiated() || !tasks[i][0].getStart().isInstantiated()) {
+            return;
+        }
+        channelled.set(i);
+        if(isDone[i].getValue() == 1) {
+            int[] activities = instance.worksheets[i].roadsID;
+            int startTime = tasks[i][0].getStart().getValue();
+            for(int j = 0; j<activities.length; j++) {
+                roadsPerturbation[activities[j]][startTime+j].instantiateTo(1, this);
+            }
+        }
+        nbWorksheetsFixed.add(1);
+        if(nbWorksheetsFixed.get() == isDone.length) {
+            for(int cell : reachableCells) {
+                BoolVar b = roadsPerturbation[cell/instance.horizon][cell%instance.horizon];
+                if(!b.isInstantiated()) {
+                    b.instantiateTo(0, this);
                 }
             }
         }
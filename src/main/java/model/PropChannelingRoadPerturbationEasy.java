@@ -5,7 +5,9 @@
 package model;
 
 import data.input.Instance;
-import org.chocosolver.solver.constraints.Propagator;
+import model.profiling.ProfiledPropagator;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -13,20 +15,27 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Task;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.Arrays;
 
-public class PropChannelingRoadPerturbationEasy extends Propagator<IntVar> {
+public class PropChannelingRoadPerturbationEasy extends ProfiledPropagator {
     private BoolVar[][] roadsPerturbation;
     private Task[] tasks;
     private Instance instance;
 
+    // (road, time) cells that some worksheet can cover, as road*horizon+time
+    private int[] reachableCells;
+    private IStateInt nbWorksheetsFixed;
+    private IStateBitSet channelled;
+
     public PropChannelingRoadPerturbationEasy(Instance instance, Task[] tasks, BoolVar[][] roadsPerturbation) {
-        super(extractVars(tasks), PropagatorPriority.VERY_SLOW, false);
+        super(extractVars(tasks), PropagatorPriority.VERY_SLOW, true);
         this.instance = instance;
         this.tasks = tasks;
         this.roadsPerturbation = roadsPerturbation;
+        this.reachableCells = PropChannelingRoadPerturbation.computeReachableCells(instance);
+        this.nbWorksheetsFixed = model.getEnvironment().makeInt(0);
+        this.channelled = model.getEnvironment().makeBitSet(tasks.length);
     }
 
     private static IntVar[] extractVars(Task[] tasks) {
@@ -45,24 +54,44 @@ public class PropChannelingRoadPerturbationEasy extends Propagator<IntVar> {
     }
 
     @Override
-    public void propagate(int evtmask) throws ContradictionException {
-        int nbWorksheetsFixed = 0;
-        for(int i = 0; i<tasks.length; i++) {
-            if(tasks[i].getStart().isInstantiated()) {
-                nbWorksheetsFixed++;
-                int[] activities = instance.worksheets[i].roadsID;
-                int startTime = tasks[i].getStart().getValue();
-                for(int j = 0; j<activities.length; j++) {
-                    roadsPerturbation[activities[j]][startTime+j].instantiateTo(1, this);
+    public void filter(int evtmask) throws ContradictionException {
+        int k = 0;
+        for(int i = 0; i<roadsPerturbation.length; i++) {
+            for(int j = 0; j<roadsPerturbation[i].length; j++) {
+                if(k<reachableCells.length && reachableCells[k] == i*instance.horizon+j) {
+                    k++;
+                } else {
+                    roadsPerturbation[i][j].instantiateTo(0, this);
                 }
             }
         }
-        if(nbWorksheetsFixed == tasks.length) {
-            for(int i = 0; i<roadsPerturbation.length; i++) {
-                for(int j = 0; j<roadsPerturbation[i].length; j++) {
-                    if(!roadsPerturbation[i][j].isInstantiated()) {
-                        roadsPerturbation[i][j].instantiateTo(0, this);
-                    }
+        for(int i = 0; i<tasks.length; i++) {
+            channel(i);
+        }
+    }
+
+    @Override
+    public void filter(int idxVarInProp, int mask) throws ContradictionException {
+        channel(idxVarInProp);
+    }
+
+    // Channels worksheet i once it is fixed, then fixes the remaining perturbations once every worksheet is
+    private void channel(int i) throws ContradictionException {
+        if(channelled.get(i) || !tasks[i].getStart().isInstantiated()) {
+            return;
+        }
+        channelled.set(i);
+        int[] activities = instance.worksheets[i].roadsID;
+        int startTime = tasks[i].getStart().getValue();
+        for(int j = 0; j<activities.length; j++) {
+            roadsPerturbation[activities[j]][startTime+j].instantiateTo(1, this);
+        }
+        nbWorksheetsFixed.add(1);
+        if(nbWorksheetsFixed.get() == tasks.length) {
+            for(int cell : reachableCells) {
+                BoolVar b = roadsPerturbation[cell/instance.horizon][cell%instance.horizon];
+                if(!b.isInstantiated()) {
+                    b.instantiateTo(0, this);
                 }
             }
         }
@@ -0,0 +1,184 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import data.input.RoadCosts;
+import model.profiling.ProfiledPropagator;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+// maxPerturbation = max over t of the weighted sum of the roads perturbed at time t
+// isDone can be null when every worksheet is done
+public class PropMaxTimePerturbation extends ProfiledPropagator {
+    private Instance instance;
+    private IntVar[] starts;
+    private BoolVar[] isDone;
+    private IntVar maxPerturbation;
+
+    private IStateInt[] perturbation; // perturbation[t] = weighted sum at time t of the roads perturbed by fixed worksheets
+    private IStateBitSet perturbed; // road*horizon+t
+    private IStateBitSet recorded; // worksheets already counted in perturbation
+    private IStateInt nbRecorded;
+    private IStateInt maxFixed;
+
+    private int maxCost; // max cost of a reachable cell
+    private int maxReachable; // max over t of the weighted sum of the reachable cells at time t
+
+    public PropMaxTimePerturbation(Instance instance, IntVar[] starts, BoolVar[] isDone, IntVar maxPerturbation) {
+        super(isDone == null ? ArrayUtils.append(starts, new IntVar[]{maxPerturbation})
+                : ArrayUtils.append(starts, isDone, new IntVar[]{maxPerturbation}), PropagatorPriority.LINEAR, true);
+        this.instance = instance;
+        this.starts = starts;
+        this.isDone = isDone;
+        this.maxPerturbation = maxPerturbation;
+        this.perturbation = new IStateInt[instance.horizon];
+        for(int t = 0; t<instance.horizon; t++) {
+            perturbation[t] = model.getEnvironment().makeInt(0);
+        }
+        this.perturbed = model.getEnvironment().makeBitSet(instance.roadsCost.length*instance.horizon);
+        this.recorded = model.getEnvironment().makeBitSet(starts.length);
+        this.nbRecorded = model.getEnvironment().makeInt(0);
+        this.maxFixed = model.getEnvironment().makeInt(0);
+
+        int[] sumReachable = new int[instance.horizon];
+        RoadCosts roadCosts = instance.roadCosts();
+        for(int cell : PropChannelingRoadPerturbation.computeReachableCells(instance)) {
+            int cost = roadCosts.cost(cell/instance.horizon, cell%instance.horizon);
+            sumReachable[cell%instance.horizon] += cost;
+            maxCost = Math.max(maxCost, cost);
+        }
+        for(int t = 0; t<instance.horizon; t++) {
+            maxReachable = Math.max(maxReachable, sumReachable[t]);
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        if(idx == vars.length-1) {
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if(nbRecorded.get() < starts.length || !maxPerturbation.isInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        return ESat.eval(maxPerturbation.getValue() == maxFixed.get());
+    }
+
+    @Override
+    public void filter(int evtmask) throws ContradictionException {
+        if(PropagatorEventType.isFullPropagation(evtmask)) {
+            maxPerturbation.updateUpperBound(maxReachable, this);
+            for(int i = 0; i<starts.length; i++) {
+                record(i);
+            }
+        }
+        // a propagator is not notified of its own events : filters again as long as filterStarts fixes some worksheet
+        do {
+            maxPerturbation.updateLowerBound(maxFixed.get(), this);
+            if(nbRecorded.get() == starts.length) {
+                maxPerturbation.updateUpperBound(maxFixed.get(), this);
+                return;
+            }
+        } while(filterStarts());
+    }
+
+    @Override
+    public void filter(int idxVarInProp, int mask) throws ContradictionException {
+        if(idxVarInProp < vars.length-1) {
+            record(idxVarInProp % starts.length);
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    private boolean isFixed(int i) {
+        if(isDone == null) {
+            return starts[i].isInstantiated();
+        }
+        return isDone[i].isInstantiatedTo(0) || isDone[i].isInstantiatedTo(1) && starts[i].isInstantiated();
+    }
+
+    // Adds the perturbation of worksheet i once it is fixed
+    private void record(int i) {
+        if(recorded.get(i) || !isFixed(i)) {
+            return;
+        }
+        recorded.set(i);
+        nbRecorded.add(1);
+        if(isDone == null || isDone[i].getValue() == 1) {
+            int[] roads = instance.worksheets[i].roadsID;
+            int start = starts[i].getValue();
+            for(int j = 0; j<roads.length; j++) {
+                int t = start+j;
+                int cell = roads[j]*instance.horizon+t;
+                if(!perturbed.get(cell)) {
+                    perturbed.set(cell);
+                    int value = perturbation[t].add(instance.roadsCost[roads[j]][t]);
+                    if(value > maxFixed.get()) {
+                        maxFixed.set(value);
+                    }
+                }
+            }
+        }
+    }
+
+    // Removes the starts that would raise the perturbation of some time step above maxPerturbation's upper bound.
+    // Returns true if some worksheet has been fixed and recorded.
+    private boolean filterStarts() throws ContradictionException {
+        if(maxPerturbation.getUB()-maxFixed.get() >= maxCost) {
+            return false;
+        }
+        int nbRecordedBefore = nbRecorded.get();
+        for(int i = 0; i<starts.length; i++) {
+            if(recorded.get(i) || isDone != null && isDone[i].isInstantiatedTo(0)) {
+                continue;
+            }
+            IntVar start = starts[i];
+            if(isDone == null || isDone[i].isInstantiatedTo(1)) {
+                int ub = start.getUB();
+                for(int t = start.getLB(); t<=ub; t = start.nextValue(t)) {
+                    if(!fits(i, t)) {
+                        start.removeValue(t, this);
+                    }
+                }
+            } else {
+                boolean fits = false;
+                int ub = start.getUB();
+                for(int t = start.getLB(); t<=ub && !fits; t = start.nextValue(t)) {
+                    fits = fits(i, t);
+                }
+                if(!fits) {
+                    isDone[i].instantiateTo(0, this);
+                }
+            }
+            record(i);
+        }
+        return nbRecorded.get() > nbRecordedBefore;
+    }
+
+    private boolean fits(int i, int start) {
+        int[] roads = instance.worksheets[i].roadsID;
+        for(int j = 0; j<roads.length; j++) {
+            int t = start+j;
+            if(t < instance.horizon && !perturbed.get(roads[j]*instance.horizon+t)
+                    && perturbation[t].get()+instance.roadsCost[roads[j]][t] > maxPerturbation.getUB()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
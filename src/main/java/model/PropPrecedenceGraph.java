@@ -0,0 +1,185 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import data.input.PrecedenceGraph;
+import model.profiling.ProfiledPropagator;
+import org.chocosolver.memory.IStateBool;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Precedences of a connected component of the precedence graph : if worksheets u and v of a precedence (u, v) are both
+// done, v starts once u is over. As a precedence does not hold when one of its worksheets is not done, bounds are only
+// propagated between done worksheets :
+// - forward, the lower bound of the start of a done worksheet is at least the earliest end of its done predecessors;
+// - backward, the upper bound of the start of a done worksheet is at most the latest start of its done successors
+//   minus its duration;
+// - an undecided worksheet is not done if it cannot be ordered with one of its done neighbours.
+// Worksheets are indexed in topological order, so that both passes visit each worksheet at most once and only from
+// the worksheets whose bounds or isDone have changed. A precedence is settled once it holds whatever happens below,
+// and the propagator becomes passive once every precedence of its component is settled.
+public class PropPrecedenceGraph extends ProfiledPropagator {
+    private IntVar[] starts; // in topological order
+    private BoolVar[] isDone;
+    private int[] durations;
+    private int[] from; // precedence e is (from[e], to[e])
+    private int[] to;
+    private int[][] out; // out[u] = precedences (u, v)
+    private int[][] in; // in[v] = precedences (u, v)
+
+    private IStateBool[] settled;
+    private IStateInt nbOpen; // precedences not settled
+    private BitSet forward; // worksheets whose successors are to be filtered
+    private BitSet backward; // worksheets whose predecessors are to be filtered
+
+    // component : worksheets of a connected component of the precedences in topological order, see
+    // PrecedenceGraph.components
+    public PropPrecedenceGraph(Instance instance, int[] component, IntVar[] starts, BoolVar[] isDone) {
+        super(ArrayUtils.append(Arrays.stream(component).mapToObj(w -> starts[w]).toArray(IntVar[]::new),
+                Arrays.stream(component).mapToObj(w -> isDone[w]).toArray(IntVar[]::new)), PropagatorPriority.LINEAR, true);
+        this.starts = Arrays.stream(component).mapToObj(w -> starts[w]).toArray(IntVar[]::new);
+        this.isDone = Arrays.stream(component).mapToObj(w -> isDone[w]).toArray(BoolVar[]::new);
+        this.durations = Arrays.stream(component).map(w -> instance.worksheets[w].duration).toArray();
+
+        int[] index = new int[instance.worksheets.length];
+        Arrays.fill(index, -1);
+        for(int i = 0; i<component.length; i++) {
+            index[component[i]] = i;
+        }
+        PrecedenceGraph graph = instance.precedenceGraph();
+        int nbEdges = Arrays.stream(component).map(graph::nbSuccessors).sum();
+        this.from = new int[nbEdges];
+        this.to = new int[nbEdges];
+        this.out = new int[component.length][];
+        this.in = new int[component.length][];
+        int[] nbIn = new int[component.length];
+        int e = 0;
+        for(int u = 0; u<component.length; u++) {
+            out[u] = new int[graph.nbSuccessors(component[u])];
+            in[u] = new int[graph.nbPredecessors(component[u])];
+            for(int k = 0; k<out[u].length; k++) {
+                from[e] = u;
+                to[e] = index[graph.successor(component[u], k)];
+                out[u][k] = e;
+                e++;
+            }
+        }
+        for(e = 0; e<nbEdges; e++) {
+            in[to[e]][nbIn[to[e]]++] = e;
+        }
+
+        this.settled = new IStateBool[nbEdges];
+        for(e = 0; e<nbEdges; e++) {
+            settled[e] = model.getEnvironment().makeBool(false);
+        }
+        this.nbOpen = model.getEnvironment().makeInt(nbEdges);
+        this.forward = new BitSet(component.length);
+        this.backward = new BitSet(component.length);
+    }
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        if(idx < starts.length) {
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        boolean entailed = true;
+        for(int e = 0; e<from.length; e++) {
+            int u = from[e];
+            int v = to[e];
+            if(isDone[u].isInstantiatedTo(1) && isDone[v].isInstantiatedTo(1) && starts[u].getLB()+durations[u] > starts[v].getUB()) {
+                return ESat.FALSE;
+            }
+            entailed &= holds(e);
+        }
+        return entailed ? ESat.TRUE : ESat.UNDEFINED;
+    }
+
+    @Override
+    public void filter(int evtmask) throws ContradictionException {
+        forward.set(0, starts.length);
+        backward.set(0, starts.length);
+        filterPasses();
+    }
+
+    @Override
+    public void filter(int idxVarInProp, int mask) throws ContradictionException {
+        if(nbOpen.get() == 0) {
+            return;
+        }
+        int i = idxVarInProp % starts.length;
+        forward.set(i);
+        backward.set(i);
+        filterPasses();
+    }
+
+    private void filterPasses() throws ContradictionException {
+        try {
+            // lower bounds only grow forward and upper bounds only shrink backward : one pass of each is enough
+            for(int u = forward.nextSetBit(0); u >= 0; u = forward.nextSetBit(u+1)) {
+                for(int e : out[u]) {
+                    if(!settled[e].get() && filterDone(e) && starts[to[e]].updateLowerBound(starts[u].getLB()+durations[u], this)) {
+                        forward.set(to[e]);
+                    }
+                }
+            }
+            for(int v = backward.previousSetBit(starts.length-1); v >= 0; v = backward.previousSetBit(v-1)) {
+                for(int e : in[v]) {
+                    if(!settled[e].get() && filterDone(e) && starts[from[e]].updateUpperBound(starts[v].getUB()-durations[from[e]], this)) {
+                        backward.set(from[e]);
+                    }
+                }
+            }
+        } finally {
+            forward.clear();
+            backward.clear();
+        }
+        if(nbOpen.get() == 0) {
+            setPassive();
+        }
+    }
+
+    // Filters isDone on precedence e, settles it if it holds, and returns true if both of its worksheets are done
+    private boolean filterDone(int e) throws ContradictionException {
+        int u = from[e];
+        int v = to[e];
+        if(!isDone[u].isInstantiated() || !isDone[v].isInstantiated()) {
+            if(starts[u].getLB()+durations[u] > starts[v].getUB()) {
+                if(isDone[u].isInstantiatedTo(1)) {
+                    isDone[v].instantiateTo(0, this);
+                } else if(isDone[v].isInstantiatedTo(1)) {
+                    isDone[u].instantiateTo(0, this);
+                }
+            }
+        }
+        if(holds(e)) {
+            settled[e].set(true);
+            nbOpen.add(-1);
+            return false;
+        }
+        return isDone[u].isInstantiatedTo(1) && isDone[v].isInstantiatedTo(1);
+    }
+
+    // True if precedence e holds whatever happens below
+    private boolean holds(int e) {
+        int u = from[e];
+        int v = to[e];
+        return isDone[u].isInstantiatedTo(0) || isDone[v].isInstantiatedTo(0) || starts[u].getUB()+durations[u] <= starts[v].getLB();
+    }
+}
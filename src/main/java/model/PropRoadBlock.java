@@ -0,0 +1,246 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import data.input.RoadMaxBlock;
+import model.profiling.ProfiledPropagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+// At most nbMaxBlocked roads of a road block group are perturbed at each time : the group is a resource of capacity
+// nbMaxBlocked, and each activity j of a worksheet on a road of the group is a unit-height optional task at start+j.
+// A unit task only has a compulsory part once fixed, so the profile counts at each time the distinct roads of the group
+// perturbed by the done worksheets whose start is fixed. Where the profile is full, the starts putting an activity on
+// another road of the group are removed from the done worksheets, and a worksheet which is not decided yet is not done
+// if none of its starts fits.
+public class PropRoadBlock extends ProfiledPropagator {
+    private Instance instance;
+    private RoadMaxBlock group;
+    private IntVar[] starts; // of the worksheets having an activity on a road of the group
+    private BoolVar[] isDone;
+    private int[][] activities; // activities[i] = indices j of the activities of worksheet i on a road of the group
+    private int[][] roads; // roads[i][a] = index in group.roadsID of the road of activity activities[i][a]
+
+    // profile of the fixed worksheets, rebuilt on each propagation
+    private boolean[] perturbed; // t*group.roadsID.length+r
+    private int[] nbPerturbed; // nbPerturbed[t] = distinct roads of the group perturbed at time t
+    private int[] cells; // cells set in perturbed, to clear them on the next rebuild
+    private int nbCells;
+    private int[] fullTimes; // times where nbMaxBlocked roads are perturbed
+    private int nbFull;
+    private boolean[] fixed;
+
+    public PropRoadBlock(Instance instance, RoadMaxBlock group, IntVar[] starts, BoolVar[] isDone) {
+        this(instance, group, starts, isDone, worksheetsOf(instance, group));
+    }
+
+    private PropRoadBlock(Instance instance, RoadMaxBlock group, IntVar[] starts, BoolVar[] isDone, int[] worksheets) {
+        super(ArrayUtils.append(Arrays.stream(worksheets).mapToObj(w -> starts[w]).toArray(IntVar[]::new),
+                Arrays.stream(worksheets).mapToObj(w -> isDone[w]).toArray(IntVar[]::new)), PropagatorPriority.LINEAR, true);
+        this.instance = instance;
+        this.group = group;
+        this.starts = Arrays.stream(worksheets).mapToObj(w -> starts[w]).toArray(IntVar[]::new);
+        this.isDone = Arrays.stream(worksheets).mapToObj(w -> isDone[w]).toArray(BoolVar[]::new);
+        this.activities = new int[worksheets.length][];
+        this.roads = new int[worksheets.length][];
+        for(int i = 0; i<worksheets.length; i++) {
+            int[] roadsID = instance.worksheets[worksheets[i]].roadsID;
+            int size = 0;
+            for(int j = 0; j<roadsID.length; j++) {
+                if(indexOf(group, roadsID[j]) >= 0) {
+                    size++;
+                }
+            }
+            activities[i] = new int[size];
+            roads[i] = new int[size];
+            int a = 0;
+            for(int j = 0; j<roadsID.length; j++) {
+                int r = indexOf(group, roadsID[j]);
+                if(r >= 0) {
+                    activities[i][a] = j;
+                    roads[i][a] = r;
+                    a++;
+                }
+            }
+        }
+        this.perturbed = new boolean[instance.horizon*group.roadsID.length];
+        this.nbPerturbed = new int[instance.horizon];
+        this.cells = new int[Arrays.stream(activities).mapToInt(array -> array.length).sum()];
+        this.fullTimes = new int[instance.horizon];
+        this.fixed = new boolean[worksheets.length];
+    }
+
+    private static int indexOf(RoadMaxBlock group, int road) {
+        for(int r = 0; r<group.roadsID.length; r++) {
+            if(group.roadsID[r] == road) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    // Worksheets having an activity on a road of the group
+    private static int[] worksheetsOf(Instance instance, RoadMaxBlock group) {
+        return Arrays.stream(instance.worksheets)
+                .filter(ws -> !ws.impossible && Arrays.stream(ws.roadsID).anyMatch(road -> indexOf(group, road) >= 0))
+                .mapToInt(ws -> ws.id)
+                .toArray();
+    }
+
+    // True if more than nbMaxBlocked roads of the group can be perturbed at the same time
+    public static boolean isBinding(Instance instance, RoadMaxBlock group) {
+        boolean[] used = new boolean[group.roadsID.length];
+        int nbUsed = 0;
+        for(int w : worksheetsOf(instance, group)) {
+            for(int road : instance.worksheets[w].roadsID) {
+                int r = indexOf(group, road);
+                if(r >= 0 && !used[r]) {
+                    used[r] = true;
+                    nbUsed++;
+                }
+            }
+        }
+        return nbUsed > group.nbMaxBlocked;
+    }
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        for(int i = 0; i<starts.length; i++) {
+            if(!isDone[i].isInstantiatedTo(0) && !(isDone[i].isInstantiatedTo(1) && starts[i].isInstantiated())) {
+                return ESat.UNDEFINED;
+            }
+        }
+        return ESat.eval(buildProfile());
+    }
+
+    @Override
+    public void filter(int evtmask) throws ContradictionException {
+        // a propagator is not notified of its own events : filters again as long as it fixes some worksheet
+        do {
+            if(!buildProfile()) {
+                fails();
+            }
+        } while(filterStarts());
+    }
+
+    @Override
+    public void filter(int idxVarInProp, int mask) throws ContradictionException {
+        int i = idxVarInProp % starts.length;
+        if(isDone[i].isInstantiatedTo(0)) {
+            return;
+        }
+        if(isDone[i].isInstantiatedTo(1) && starts[i].isInstantiated()) {
+            // the profile has changed
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+            return;
+        }
+        // only worksheet i can be filtered
+        if(!buildProfile()) {
+            fails();
+        }
+        if(filterStarts(i)) {
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+        }
+    }
+
+    // Rebuilds the profile of the fixed worksheets, returns false if some time exceeds nbMaxBlocked
+    private boolean buildProfile() {
+        for(int k = 0; k<nbCells; k++) {
+            perturbed[cells[k]] = false;
+            nbPerturbed[cells[k]/group.roadsID.length] = 0;
+        }
+        nbCells = 0;
+        nbFull = 0;
+        boolean feasible = true;
+        for(int i = 0; i<starts.length; i++) {
+            fixed[i] = isDone[i].isInstantiatedTo(1) && starts[i].isInstantiated();
+            if(fixed[i]) {
+                int start = starts[i].getValue();
+                for(int a = 0; a<activities[i].length; a++) {
+                    int t = start+activities[i][a];
+                    int cell = t*group.roadsID.length+roads[i][a];
+                    if(t < instance.horizon && !perturbed[cell]) {
+                        perturbed[cell] = true;
+                        cells[nbCells++] = cell;
+                        nbPerturbed[t]++;
+                        if(nbPerturbed[t] == group.nbMaxBlocked) {
+                            fullTimes[nbFull++] = t;
+                        }
+                        feasible &= nbPerturbed[t] <= group.nbMaxBlocked;
+                    }
+                }
+            }
+        }
+        return feasible;
+    }
+
+    // Removes the starts of the done worksheets that do not fit in the profile, and sets to not done the undecided
+    // worksheets that fit nowhere. Returns true if some worksheet has been fixed.
+    private boolean filterStarts() throws ContradictionException {
+        if(nbFull == 0) {
+            return false;
+        }
+        boolean hasFixed = false;
+        for(int i = 0; i<starts.length; i++) {
+            hasFixed |= filterStarts(i);
+        }
+        return hasFixed;
+    }
+
+    // Same for worksheet i, returns true if it has been fixed
+    private boolean filterStarts(int i) throws ContradictionException {
+        if(nbFull == 0 || fixed[i] || isDone[i].isInstantiatedTo(0)) {
+            return false;
+        }
+        IntVar start = starts[i];
+        if(isDone[i].isInstantiatedTo(1)) {
+            // only the starts putting an activity at a full time can be removed
+            for(int a = 0; a<activities[i].length; a++) {
+                for(int k = 0; k<nbFull; k++) {
+                    if(!perturbed[fullTimes[k]*group.roadsID.length+roads[i][a]]) {
+                        start.removeValue(fullTimes[k]-activities[i][a], this);
+                    }
+                }
+            }
+            return start.isInstantiated();
+        }
+        if(start.getDomainSize() <= activities[i].length*nbFull) {
+            // with more starts than (activity, full time) pairs, some start fits
+            boolean fits = false;
+            int ub = start.getUB();
+            for(int t = start.getLB(); t<=ub && !fits; t = start.nextValue(t)) {
+                fits = fits(i, t);
+            }
+            if(!fits) {
+                isDone[i].instantiateTo(0, this);
+            }
+        }
+        return false;
+    }
+
+    private boolean fits(int i, int start) {
+        for(int a = 0; a<activities[i].length; a++) {
+            int t = start+activities[i][a];
+            if(t < instance.horizon && nbPerturbed[t] >= group.nbMaxBlocked && !perturbed[t*group.roadsID.length+roads[i][a]]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import data.input.Worksheet;
+import model.profiling.ProfiledPropagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+
+// Workers of a work center : each worksheet of the center is one optional task, whose height over its duration is
+// given by amountOfWorkers, starting at its start if it is done. Timetable filtering on the worksheet starts :
+// - a done worksheet whose start window [lb, ub] is shorter than its duration surely runs on [ub, lb+duration), where
+//   it uses at least the least amount of workers of the activities that can be at each time : this is its compulsory
+//   part, and the profile is the sum of the compulsory parts;
+// - a start of a done worksheet is removed if, with the compulsory part of the worksheet taken out of the profile,
+//   one of its activities would exceed the capacity, and an undecided worksheet is not done if none of its starts fits.
+public class PropWorkCenter extends ProfiledPropagator {
+    private Instance instance;
+    private int capacity;
+    private Worksheet[] worksheets;
+    private IntVar[] starts;
+    private BoolVar[] isDone;
+    private int[] maxWorkers; // maxWorkers[i] = max of worksheets[i].amountOfWorkers
+    private int maxWorkersAll;
+
+    // profile of the compulsory parts, rebuilt on each propagation
+    private int[] profile;
+    private int[] compulsoryFrom; // compulsory part of worksheet i on [compulsoryFrom[i], compulsoryFrom[i]+compulsoryLength[i])
+    private int[][] compulsory; // workers used by worksheet i at each time of its compulsory part, empty if none
+    private int[] compulsoryLength;
+    private int maxProfile;
+    private int[] loaded; // times where the profile is positive, increasing
+    private int nbLoaded;
+
+    public PropWorkCenter(Instance instance, int center, IntVar[] starts, BoolVar[] isDone) {
+        this(instance, center, starts, isDone, worksheetsOf(instance, center));
+    }
+
+    private PropWorkCenter(Instance instance, int center, IntVar[] starts, BoolVar[] isDone, int[] worksheets) {
+        super(ArrayUtils.append(Arrays.stream(worksheets).mapToObj(w -> starts[w]).toArray(IntVar[]::new),
+                Arrays.stream(worksheets).mapToObj(w -> isDone[w]).toArray(IntVar[]::new)), PropagatorPriority.LINEAR, false);
+        this.instance = instance;
+        this.capacity = instance.workCenters[center];
+        this.worksheets = Arrays.stream(worksheets).mapToObj(w -> instance.worksheets[w]).toArray(Worksheet[]::new);
+        this.starts = Arrays.stream(worksheets).mapToObj(w -> starts[w]).toArray(IntVar[]::new);
+        this.isDone = Arrays.stream(worksheets).mapToObj(w -> isDone[w]).toArray(BoolVar[]::new);
+        this.maxWorkers = new int[worksheets.length];
+        this.compulsory = new int[worksheets.length][];
+        for(int i = 0; i<worksheets.length; i++) {
+            maxWorkers[i] = Arrays.stream(this.worksheets[i].amountOfWorkers).max().orElse(0);
+            maxWorkersAll = Math.max(maxWorkersAll, maxWorkers[i]);
+            compulsory[i] = new int[this.worksheets[i].duration];
+        }
+        this.profile = new int[instance.horizon];
+        this.compulsoryFrom = new int[worksheets.length];
+        this.compulsoryLength = new int[worksheets.length];
+        this.loaded = new int[instance.horizon];
+    }
+
+    private static int[] worksheetsOf(Instance instance, int center) {
+        return Arrays.stream(instance.worksheets)
+                .filter(ws -> ws.workCenterID == center && !ws.impossible)
+                .mapToInt(ws -> ws.id)
+                .toArray();
+    }
+
+    // True if the worksheets of the center can need more workers than its capacity at the same time
+    public static boolean isBinding(Instance instance, int center) {
+        int sum = 0;
+        for(int w : worksheetsOf(instance, center)) {
+            sum += Arrays.stream(instance.worksheets[w].amountOfWorkers).max().orElse(0);
+        }
+        return sum > instance.workCenters[center];
+    }
+
+    @Override
+    public int getPropagationConditions(int idx) {
+        if(idx < starts.length) {
+            return IntEventType.boundAndInst();
+        }
+        return IntEventType.instantiation();
+    }
+
+    @Override
+    public ESat isEntailed() {
+        for(int i = 0; i<starts.length; i++) {
+            if(!isDone[i].isInstantiatedTo(0) && !(isDone[i].isInstantiatedTo(1) && starts[i].isInstantiated())) {
+                return ESat.UNDEFINED;
+            }
+        }
+        return ESat.eval(buildProfile());
+    }
+
+    @Override
+    public void filter(int evtmask) throws ContradictionException {
+        // a propagator is not notified of its own events : filters again as long as some compulsory part grows
+        do {
+            if(!buildProfile()) {
+                fails();
+            }
+        } while(maxProfile+maxWorkersAll > capacity && filterStarts());
+    }
+
+    // Rebuilds the compulsory parts and the profile, returns false if the profile exceeds the capacity
+    private boolean buildProfile() {
+        Arrays.fill(profile, 0);
+        maxProfile = 0;
+        for(int i = 0; i<starts.length; i++) {
+            computeCompulsoryPart(i);
+            for(int k = 0; k<compulsoryLength[i]; k++) {
+                int t = compulsoryFrom[i]+k;
+                profile[t] += compulsory[i][k];
+                maxProfile = Math.max(maxProfile, profile[t]);
+            }
+        }
+        nbLoaded = 0;
+        if(maxProfile > 0) {
+            for(int t = 0; t<profile.length; t++) {
+                if(profile[t] > 0) {
+                    loaded[nbLoaded++] = t;
+                }
+            }
+        }
+        return maxProfile <= capacity;
+    }
+
+    private void computeCompulsoryPart(int i) {
+        compulsoryLength[i] = 0;
+        if(!isDone[i].isInstantiatedTo(1)) {
+            return;
+        }
+        int[] workers = worksheets[i].amountOfWorkers;
+        IntVar start = starts[i];
+        int lb = start.getLB();
+        int ub = start.getUB();
+        int end = Math.min(lb+workers.length, instance.horizon);
+        if(ub >= end) {
+            return;
+        }
+        compulsoryFrom[i] = ub;
+        compulsoryLength[i] = end-ub;
+        for(int t = ub; t<end; t++) {
+            int min = Integer.MAX_VALUE;
+            for(int s = lb; s<=ub; s = start.nextValue(s)) {
+                min = Math.min(min, workers[t-s]);
+            }
+            compulsory[i][t-ub] = min;
+        }
+    }
+
+    // Removes the starts of the done worksheets that do not fit in the profile, and sets to not done the undecided
+    // worksheets that fit nowhere. Returns true if the compulsory part of some worksheet may have grown.
+    private boolean filterStarts() throws ContradictionException {
+        boolean hasGrown = false;
+        for(int i = 0; i<starts.length; i++) {
+            if(isDone[i].isInstantiatedTo(0) || maxProfile+maxWorkers[i] <= capacity) {
+                continue;
+            }
+            IntVar start = starts[i];
+            int[] workers = worksheets[i].amountOfWorkers;
+            if(isDone[i].isInstantiatedTo(1)) {
+                // only a start putting some activity j at a loaded time t can exceed the capacity
+                int size = start.getDomainSize();
+                for(int k = 0; k<nbLoaded; k++) {
+                    int t = loaded[k];
+                    int others = profile[t]-own(i, t);
+                    if(others+maxWorkers[i] <= capacity) {
+                        continue;
+                    }
+                    for(int j = 0; j<workers.length; j++) {
+                        if(others+workers[j] > capacity) {
+                            start.removeValue(t-j, this);
+                        }
+                    }
+                }
+                hasGrown |= start.getDomainSize() < size && start.getUB()-start.getLB() < worksheets[i].duration;
+            } else if(start.getDomainSize() <= nbLoaded*workers.length) {
+                // with more starts than (loaded time, activity) pairs, some start fits
+                boolean fits = false;
+                int ub = start.getUB();
+                for(int s = start.getLB(); s<=ub && !fits; s = start.nextValue(s)) {
+                    fits = fits(i, s);
+                }
+                if(!fits) {
+                    isDone[i].instantiateTo(0, this);
+                }
+            }
+        }
+        return hasGrown;
+    }
+
+    private boolean fits(int i, int start) {
+        int[] workers = worksheets[i].amountOfWorkers;
+        for(int j = 0; j<workers.length; j++) {
+            int t = start+j;
+            if(t < instance.horizon && profile[t]-own(i, t)+workers[j] > capacity) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Workers of the compulsory part of worksheet i at time t
+    private int own(int i, int t) {
+        int k = t-compulsoryFrom[i];
+        return k >= 0 && k < compulsoryLength[i] ? compulsory[i][k] : 0;
+    }
+}
@@ -1,25 +1,23 @@
 package model;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
-import java.util.Scanner;
 
 import data.Factory;
 import data.input.RoadMaxBlock;
 import data.input.Worksheet;
+import eval.BestSolutionWriter;
+import eval.Trace;
 import gnu.trove.list.array.TIntArrayList;
-import org.chocosolver.solver.Cause;
+import gnu.trove.map.hash.TIntIntHashMap;
+import model.lns.AdaptiveNeighbor;
+import model.lns.FragmentLimits;
+import model.lns.RNMPNeighbors;
+import model.profiling.ProfilingEngine;
 import org.chocosolver.solver.Model;
-import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
-import org.chocosolver.solver.search.limits.FailCounter;
-import org.chocosolver.solver.search.loop.lns.INeighborFactory;
 import org.chocosolver.solver.search.loop.lns.neighbors.Neighbor;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
@@ -38,6 +36,10 @@ public class RNMP {
 	public static final int MEDIUM = 1;
 	public static final int HARD = 2;
 
+	public static final int HOME_MADE_SEARCH = 0;
+	public static final int RANDOM_SEARCH = 1;
+	public static final int INPUT_ORDER_SEARCH = 2;
+
 	// INSTANCE
 	Instance instance;
 	int difficulty;
@@ -54,10 +56,29 @@ public class RNMP {
 
 	// TASKS
 	Task[][] tasks;
+
+	// only creates perturbation variables for reachable (road, time) cells
+	boolean sparse;
+	// activities are offset views of the worksheet start, see makeLeanTasksAndIsDone
+	boolean lean;
 	
 
 	public RNMP(Instance instance) {
+		this(instance, HOME_MADE_SEARCH, 0);
+	}
+
+	public RNMP(Instance instance, int searchType, long seed) {
+		this(instance, searchType, seed, true);
+	}
+
+	public RNMP(Instance instance, int searchType, long seed, boolean sparse) {
+		this(instance, searchType, seed, sparse, true);
+	}
+
+	public RNMP(Instance instance, int searchType, long seed, boolean sparse, boolean lean) {
 		this.instance = instance;
+		this.sparse = sparse;
+		this.lean = lean;
 		if(instance.name.contains("EASY")) {
 			difficulty = EASY;
 		} else if(instance.name.contains("MEDIUM")) {
@@ -66,8 +87,13 @@ public class RNMP {
 			difficulty = HARD;
 		}
 		model = new Model("RNMP");
+		ProfilingEngine.plugIfEnabled(model);
 
-		makeTasksAndIsDone();
+		if(lean) {
+			makeLeanTasksAndIsDone();
+		} else {
+			makeTasksAndIsDone();
+		}
 		makePerturbation();
 
 		makePrecedences();
@@ -76,9 +102,13 @@ public class RNMP {
 		}
 
 		makeObj();
-		makeSearch();
+		makeSearch(searchType, seed);
 	}
 	
+	public Model getModel() {
+		return model;
+	}
+
 	public IntVar getStartWorksheet(int i) {
 		return tasks[i][0].getStart();
 	}
@@ -88,23 +118,38 @@ public class RNMP {
 	}
 
 	public void makePerturbation() {
-		roadsPerturbation = model.boolVarMatrix("roadsPerturbation", instance.roadsCost.length, instance.horizon);
+		roadsPerturbation = makeRoadsPerturbation(model, instance, sparse);
 		model.post(new Constraint("CHANNELING_CONSTRAINT", new PropChannelingRoadPerturbation(instance, tasks, isDone, roadsPerturbation)));
 
 		if(difficulty == HARD) {
-			BoolVar[] roadsBlockedMax;
+			// one resource per road block group, on the worksheet starts rather than a sum per time on the perturbations
+			IntVar[] starts = Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new);
 			for(RoadMaxBlock rmb : instance.roadsBlocked) {
-				roadsBlockedMax = new BoolVar[rmb.roadsID.length];
-				for(int t = 0; t<instance.horizon; t++) {
-					for(int k = 0; k<roadsBlockedMax.length; k++) {
-						roadsBlockedMax[k] = roadsPerturbation[rmb.roadsID[k]][t];
-					}
-					model.sum(roadsBlockedMax, "<=", rmb.nbMaxBlocked).post();
+				if(PropRoadBlock.isBinding(instance, rmb)) {
+					model.post(new Constraint("ROAD_BLOCK_CONSTRAINT", new PropRoadBlock(instance, rmb, starts, isDone)));
 				}
 			}
 		}
 	}
 
+	static BoolVar[][] makeRoadsPerturbation(Model model, Instance instance, boolean sparse) {
+		if(!sparse) {
+			return model.boolVarMatrix("roadsPerturbation", instance.roadsCost.length, instance.horizon);
+		}
+		// cells out of every worksheet window [est, lst+duration) are never perturbed
+		BoolVar zero = model.boolVar(false);
+		BoolVar[][] roadsPerturbation = new BoolVar[instance.roadsCost.length][instance.horizon];
+		for(int i = 0; i<roadsPerturbation.length; i++) {
+			Arrays.fill(roadsPerturbation[i], zero);
+		}
+		for(int cell : PropChannelingRoadPerturbation.computeReachableCells(instance)) {
+			int road = cell/instance.horizon;
+			int t = cell%instance.horizon;
+			roadsPerturbation[road][t] = model.boolVar("roadsPerturbation["+road+"]["+t+"]");
+		}
+		return roadsPerturbation;
+	}
+
 	public void makeTasksAndIsDone() {
 		tasks = new Task[instance.worksheets.length][];
 		isDone = model.boolVarArray("isDone", instance.worksheets.length);
@@ -121,11 +166,42 @@ public class RNMP {
 			model.arithm(getStartWorksheet(i), ">=", instance.worksheets[i].est).post(); // est
 			model.arithm(getStartWorksheet(i), "<=", instance.worksheets[i].lst).post(); // lst
 			model.arithm(isDone[i], ">=", instance.worksheets[i].mandatory).post(); // mandatory
+			if(instance.worksheets[i].impossible) {
+				model.arithm(isDone[i], "=", 0).post();
+			}
 
 			model.arithm(getStartWorksheet(i), "-", isDone[i].mul(instance.horizon).intVar(), "<=", instance.worksheets[i].est).post();
 		}
 
 	}
+
+	// Same model with a single variable per worksheet, its start, whose domain is [est, lst] : the worksheet is one task
+	// of fixed duration whose end is an offset view of its start, and its workers are handled by PropWorkCenter.
+	// A worksheet not done starts at its est and its end is start+duration, which PropPrecedenceGraph does not use then.
+	public void makeLeanTasksAndIsDone() {
+		tasks = new Task[instance.worksheets.length][];
+		isDone = new BoolVar[instance.worksheets.length];
+		for(int i = 0; i<tasks.length; i++) {
+			Worksheet ws = instance.worksheets[i];
+			if(ws.impossible) {
+				// see Presolve
+				isDone[i] = model.boolVar("isDone["+i+"]", false);
+				IntVar start = model.intVar("start["+i+"]", ws.est);
+				tasks[i] = new Task[]{new Task(start, model.intVar(ws.duration), model.intOffsetView(start, ws.duration))};
+				continue;
+			}
+			isDone[i] = ws.mandatory == 1 ? model.boolVar("isDone["+i+"]", true) : model.boolVar("isDone["+i+"]");
+			IntVar start = model.intVar("start["+i+"]", ws.est, ws.lst);
+			tasks[i] = new Task[]{new Task(start, model.intVar(ws.duration), model.intOffsetView(start, ws.duration))};
+
+			if(ws.mandatory != 1) {
+				model.arithm(start, "-", model.intScaleView(isDone[i], instance.horizon), "<=", ws.est).post();
+			}
+			if(ws.lst+ws.duration > instance.horizon) {
+				model.arithm(start, "+", model.intScaleView(isDone[i], ws.duration), "<=", instance.horizon).post();
+			}
+		}
+	}
 	
 	public void makeObj() {
 		int min = 0;
@@ -133,12 +209,9 @@ public class RNMP {
 		for(Worksheet ws : instance.worksheets) {
 			sum += ws.importance;
 		}
+		int[] totalCost = instance.roadCosts().totalCostPerTime();
 		for(int t = 0; t<instance.horizon; t++) {
-			int a = 0;
-			for(int i = 0; i<instance.roadsCost.length; i++) {
-				a -= instance.roadsCost[i][t];
-			}
-			min = Math.min(min, a);
+			min = Math.min(min, -totalCost[t]);
 		}
 
 		obj = model.intVar("obj", min, sum);
@@ -148,33 +221,29 @@ public class RNMP {
 		model.scalar(isDone, importances, "=", sumUrgency).post();
 
 		IntVar maxPerturbation = model.intVar("maxPerturbation", 0, -min);
-		IntVar[] sumPerturbation = model.intVarArray("sumPerturbation", instance.horizon, 0, -min);
-		for(int j = 0; j<sumPerturbation.length; j++) {
-			int[] coefs = new int[roadsPerturbation.length];
-			IntVar[] tmp = new IntVar[roadsPerturbation.length];
-			for(int i = 0; i<roadsPerturbation.length; i++) {
-				coefs[i] = instance.roadsCost[i][j];
-				tmp[i] = roadsPerturbation[i][j];
-			}
-			model.scalar(tmp, coefs, "=", sumPerturbation[j]).post();
+		IntVar[] starts = new IntVar[tasks.length];
+		for(int i = 0; i<starts.length; i++) {
+			starts[i] = getStartWorksheet(i);
 		}
-		model.max(maxPerturbation, sumPerturbation).post();
+		model.post(new Constraint("MAX_PERTURBATION_CONSTRAINT", new PropMaxTimePerturbation(instance, starts, isDone, maxPerturbation)));
 
 		model.arithm(sumUrgency, "-", maxPerturbation, "=", obj).post();
 
 		model.setObjective(true, obj);
 	}
 
-	public void makeSearch() {
+	public void makeSearch(int searchType, long seed) {
 		IntVar[] decVars = new IntVar[2*isDone.length];
 		for(int i = 0; i<decVars.length; i+=2) {
 			decVars[i] = isDone[i/2];
 			decVars[i+1] = getStartWorksheet(i/2);
 		}
 
-		/*
-		model.getSolver().setSearch(Search.inputOrderUBSearch(decVars));
-		//*/
+		if(searchType == INPUT_ORDER_SEARCH) {
+			model.getSolver().setSearch(Search.inputOrderUBSearch(decVars));
+			return;
+		}
+
 		/* TO ENSURE TO HAVE A SOLUTION
 		model.getSolver().setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
 			@Override
@@ -203,109 +272,95 @@ public class RNMP {
 			}
 		}, decVars));
 		//*/
-		//* HOME-MADE SEARCH
-		model.getSolver().setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
-			@Override
-			public IntVar getVariable(IntVar[] variables) {
-				for(int i = 0; i<isDone.length; i++) {
-					if(isDone[i].isInstantiatedTo(1) && !getStartWorksheet(i).isInstantiated()) {
-						return getStartWorksheet(i);
-					}
-				}
-				Integer bestImportance = null;
-				Integer idx = null;
-				for(int i = 0; i<isDone.length; i++) {
-					if(!isDone[i].isInstantiated() && (idx==null || bestImportance<instance.worksheets[i].importance)) {
-						bestImportance = instance.worksheets[i].importance;
-						idx = i;
-					}
-				}
-				if(idx != null) {
-					return isDone[idx];
-				}
-				for(int i = 0; i<isDone.length; i++) {
-					if(!getStartWorksheet(i).isInstantiated()) {
-						return getStartWorksheet(i);
-					}
-				}
-				return null;
-			}
-		}, new IntValueSelector() {
+		// variable id -> i for isDone[i] and isDone.length+i for the start of worksheet i
+		TIntIntHashMap ids = new TIntIntHashMap(decVars.length);
+		for(int i = 0; i<isDone.length; i++) {
+			ids.put(isDone[i].getId(), i);
+			ids.put(getStartWorksheet(i).getId(), isDone.length+i);
+		}
+		BestStartSelector bestStartSelector = new BestStartSelector(instance, roadsPerturbation, true);
+		IntValueSelector valueSelector = new IntValueSelector() {
 			@Override
 			public int selectValue(IntVar var) {
 //				return var.getUB();
-				int id = -1;
-				for(int i = 0; i<isDone.length+tasks.length; i++) {
-					if(i<isDone.length && isDone[i].equals(var) ||
-							i>=isDone.length && getStartWorksheet(i-isDone.length).equals(var)) {
-						id = i;
-						break;
-					}
-				}
+				int id = ids.get(var.getId());
 				if(id<isDone.length) {
 					return var.getUB();
 				}
 				id -= isDone.length;
-				int bestStart = -1;
-				int lessInc = Integer.MAX_VALUE;
-				for(int t = var.getLB(); t<=var.getUB(); t=var.nextValue(t)) {
-					int inc = computeIncreasePerturbation(id, t);
-					if(inc < lessInc) {
-						lessInc = inc;
-						bestStart = t;
-					}
-				}
-				return bestStart;
+				return bestStartSelector.bestStart(id, var);
 			}
-		}, decVars));
-		//*/
-		/*
-		Random rnd = new Random(0);
-		TIntArrayList list = new TIntArrayList();
-		model.getSolver().setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
-			@Override
-			public IntVar getVariable(IntVar[] variables) {
-				list.clear();
-				for(int i = 0; i<decVars.length; i++) {
-					if(!decVars[i].isInstantiated()) {
-						list.add(i);
+		};
+		if(searchType == RANDOM_SEARCH) {
+			Random rnd = new Random(seed);
+			TIntArrayList list = new TIntArrayList();
+			model.getSolver().setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
+				@Override
+				public IntVar getVariable(IntVar[] variables) {
+					list.clear();
+					for(int i = 0; i<decVars.length; i++) {
+						if(!decVars[i].isInstantiated()) {
+							list.add(i);
+						}
+					}
+					if(list.size() == 0) {
+						return null;
+					} else {
+						return decVars[list.getQuick(rnd.nextInt(list.size()))];
 					}
 				}
-				if(list.size() == 0) {
-					return null;
-				} else {
-					return decVars[list.getQuick(rnd.nextInt(list.size()))];
-				}
-			}
-		}, new IntValueSelector() {
-			@Override
-			public int selectValue(IntVar var) {
-				return var.getUB();
-			}
-		}, decVars));
-		//*/
+			}, valueSelector, decVars));
+			return;
+		}
+
+		// HOME-MADE SEARCH
+		IntVar[] starts = new IntVar[tasks.length];
+		for(int i = 0; i<starts.length; i++) {
+			starts[i] = getStartWorksheet(i);
+		}
+		int[] importances = Arrays.stream(instance.worksheets).mapToInt(ws -> ws.importance).toArray();
+		model.getSolver().setSearch(Search.intVarSearch(new IndexedWorksheetSelector(starts, isDone, importances), valueSelector, decVars));
 	}
 
-	private int computeIncreasePerturbation(int id, int start) {
-		int inc = 0;
-		for(int k = 0; k<instance.worksheets[id].duration; k++) {
-			int idRoad = instance.worksheets[id].roadsID[k];
-			if(!roadsPerturbation[idRoad][start+k].isInstantiated()) {
-				inc += instance.roadsCost[idRoad][start+k];
+	public int[][] getSolution() {
+		int nbDone = 0;
+		for(int i = 0; i<isDone.length; i++) {
+			if(isDone[i].isInstantiatedTo(1)) {
+				nbDone++;
+			}
+		}
+		int[][] best = new int[nbDone][2];
+		int k = 0;
+		for(int i = 0; i<isDone.length; i++) {
+			if(isDone[i].isInstantiatedTo(1)) {
+				best[k][0] = i;
+				best[k][1] = getStartWorksheet(i).getValue();
+				k++;
 			}
 		}
-		return inc;
+		return best;
 	}
 
-	private static int computeNbPrec(ArrayList<Integer>[] prec, int i) {
-		int sum = 0;
-		for(int p : prec[i]) {
-			sum += 1+computeNbPrec(prec, p);
+	// start of each worksheet, -1 when not done
+	public int[] getStarts() {
+		int[] starts = new int[isDone.length];
+		for(int i = 0; i<isDone.length; i++) {
+			starts[i] = isDone[i].isInstantiatedTo(1) ? getStartWorksheet(i).getValue() : -1;
 		}
-		return sum;
+		return starts;
 	}
 
 	public void constraintWorkRessources() {
+		if(lean) {
+			// one resource per work center on the worksheet starts, each worksheet being a task with a profile of workers
+			IntVar[] starts = Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new);
+			for(int center = 0; center<instance.workCenters.length; center++) {
+				if(PropWorkCenter.isBinding(instance, center)) {
+					model.post(new Constraint("WORK_CENTER_CONSTRAINT", new PropWorkCenter(instance, center, starts, isDone)));
+				}
+			}
+			return;
+		}
 		// A cumulative for each work centers
 		for (int center = 0; center < instance.workCenters.length; center++) {
 			// We put every tasks of every concerned worksheets in one table
@@ -336,12 +391,10 @@ public class RNMP {
 	}
 
 	public void makePrecedences() {
-		for (int i = 0; i < instance.precedences.length; ++i) {
-			int i1 = instance.precedences[i][0];
-			int i2 = instance.precedences[i][1];
-			model.post(new Constraint("PRECEDENCES_CONSTRAINT",
-					new PropPrecedences(isDone[i1], getStartWorksheet(i1), getEndWorksheet(i1),
-							isDone[i2], getStartWorksheet(i2), getEndWorksheet(i2))));
+		// one constraint per connected component of the precedence graph, so that each one gets passive on its own
+		IntVar[] starts = Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new);
+		for(int[] component : instance.precedenceGraph().components()) {
+			model.post(new Constraint("PRECEDENCES_CONSTRAINT", new PropPrecedenceGraph(instance, component, starts, isDone)));
 		}
 	}
 
@@ -351,8 +404,14 @@ public class RNMP {
 		}
 		int[][] best = null;
 		Integer bestObj = 0;
-		int bestKnown = computeObjectiveOfSolution(instance, "results/"+instance.name+".txt");
+		WarmStart warmStart = WarmStart.fromResults(instance);
+		BestSolutionWriter writer = new BestSolutionWriter(instance);
 
+		if(warmStart != null) {
+			warmStart.apply(model, isDone, Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new), null);
+		}
+
+		Trace trace = TraceMonitor.plug(model.getSolver(), instance.name, "cp", 0, null);
 		while(model.getSolver().solve()) {
 			int nbDone = (int) Arrays.stream(isDone).filter(b -> b.isInstantiatedTo(1)).count();
 			bestObj = obj.getValue();
@@ -366,108 +425,48 @@ public class RNMP {
 				}
 			}
 			System.out.println(instance.name+" -> "+obj.getValue()+" : "+Arrays.deepToString(best));
-			if(bestKnown<bestObj) {
-				FileWriter fw = new FileWriter("results/"+instance.name+".txt");
-				for(int i = 0; i<best.length; i++) {
-					fw.write(best[i][0]+" "+best[i][1]+" "+"\n");
-				}
-				fw.close();
-			}
+			writer.offer(bestObj, getStarts());
 		}
+		writer.close();
 
 		model.getSolver().printStatistics();
+		ProfilingEngine.printIfEnabled(model);
+		trace.write();
 	}
 
-
-	public static int computeObjectiveOfSolution(Instance instance, String path) throws IOException, ContradictionException {
-		RNMP rnmp = new RNMP(instance);
-		if(!new File(path).exists()) {
-			return Integer.MIN_VALUE;
-		}
-		Scanner scanner = new Scanner(new FileReader(path));
-		while(scanner.hasNextLine()) {
-			String[] line = scanner.nextLine().split(" ");
-			int id = Integer.parseInt(line[0]);
-			int start = Integer.parseInt(line[1]);
-			rnmp.isDone[id].instantiateTo(1, Cause.Null);
-			rnmp.getStartWorksheet(id).instantiateTo(start, Cause.Null);
-		}
-		scanner.close();
-		for(int i = 0; i<rnmp.isDone.length; i++) {
-			if(!rnmp.isDone[i].isInstantiated()) {
-				rnmp.isDone[i].instantiateTo(0, Cause.Null);
-			}
-		}
-		rnmp.model.getSolver().propagate();
-		return rnmp.obj.getValue();
+	// Adaptive LNS over the worksheets, with fail limits and fragment sizes tuned per neighborhood
+	public FragmentLimits setLNS(long seed) {
+		IntVar[] starts = Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new);
+		AdaptiveNeighbor neighbor = RNMPNeighbors.adaptive(instance, isDone, starts, seed);
+		FragmentLimits limits = new FragmentLimits(model.getSolver(), neighbor, isDone.length);
+		model.getSolver().setLNS(neighbor, limits);
+		return limits;
 	}
 
 	public void lnsSolve(String timeLimit) throws IOException, ContradictionException {
-		int bestKnown = computeObjectiveOfSolution(instance, "results/"+instance.name+".txt");
-		IntVar[] ivars = ArrayUtils.append(isDone, Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new));
+		WarmStart warmStart = WarmStart.fromResults(instance);
+		BestSolutionWriter writer = new BestSolutionWriter(instance);
+		IntVar[] starts = Arrays.stream(tasks).map(array -> array[0].getStart()).toArray(IntVar[]::new);
 		model.getSolver().limitTime(timeLimit);
 //		model.getSolver().showSolutions();
 
 		model.getSolver().plugMonitor((IMonitorSolution) () -> {
 			System.out.println(obj.getValue());
-			if(bestKnown<obj.getValue()) {
-				int nbDone = 0;
-				for(int i = 0; i<isDone.length; i++) {
-					if(isDone[i].isInstantiatedTo(1)) {
-						nbDone++;
-					}
-				}
-				int[][] best = new int[nbDone][2];
-				int k = 0;
-				for(int i = 0; i<isDone.length; i++) {
-					if(isDone[i].isInstantiatedTo(1)) {
-						best[k][0] = i;
-						best[k][1] = getStartWorksheet(i).getValue();
-						k++;
-					}
-				}
-				try {
-					FileWriter fw = new FileWriter("results/"+instance.name+".txt");
-					for(int i = 0; i<best.length; i++) {
-						fw.write(best[i][0]+" "+best[i][1]+"\n");
-					}
-					fw.close();
-				} catch(IOException ex) {
-					ex.printStackTrace();
-				}
-			}
+			writer.offer(obj.getValue(), getStarts());
 		});
 
-		model.getSolver().setLNS(INeighborFactory.random(ivars), new FailCounter(model.getSolver(), 100));
-
-		Solution solution = model.getSolver().findOptimalSolution(obj, Model.MAXIMIZE);
+		FragmentLimits limits = setLNS(0);
 
-		if(bestKnown<solution.getIntVal(obj)) {
-			int nbDone = 0;
-			for(int i = 0; i<isDone.length; i++) {
-				if(solution.getIntVal(isDone[i]) == 1) {
-					nbDone++;
-				}
-			}
-			int[][] best = new int[nbDone][2];
-			int k = 0;
-			for(int i = 0; i<isDone.length; i++) {
-				if(solution.getIntVal(isDone[i]) == 1) {
-					best[k][0] = i;
-					best[k][1] = solution.getIntVal(getStartWorksheet(i));
-					k++;
-				}
-			}
-			try {
-				FileWriter fw = new FileWriter("results/"+instance.name+".txt");
-				for(int i = 0; i<best.length; i++) {
-					fw.write(best[i][0]+" "+best[i][1]+"\n");
-				}
-				fw.close();
-			} catch(IOException ex) {
-				ex.printStackTrace();
-			}
+		if(warmStart != null) {
+			warmStart.apply(model, isDone, starts, limits.getNeighbor());
 		}
+		Trace trace = TraceMonitor.plug(model.getSolver(), instance.name, "lns", 0, limits.getNeighbor());
+		while(model.getSolver().solve());
+		writer.close();
+		System.out.print(limits.getNeighbor());
+		System.out.print(limits);
+		ProfilingEngine.printIfEnabled(model);
+		trace.write();
 	}
 
 	public static void main(String[] args) throws IOException, ContradictionException{
@@ -480,9 +479,5 @@ public class RNMP {
 			RNMP rnmp = new RNMP(instance);
 			rnmp.lnsSolve("5m");
 		}
-//		String instanceName = "HARD_5000_1500";
-//		Instance instance = Factory.fromFile("data/"+instanceName+".json", Instance.class);
-//		int obj = computeObjectiveOfSolution(instance, "results/"+instanceName+".txt");
-//		System.out.println(obj);
 	}
 }
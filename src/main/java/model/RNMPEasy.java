@@ -1,24 +1,21 @@
 package model;
 
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
-import java.util.Scanner;
 
-import data.Factory;
 import data.input.Worksheet;
+import eval.BestSolutionWriter;
+import eval.Trace;
 import gnu.trove.list.array.TIntArrayList;
-import org.chocosolver.solver.Cause;
+import gnu.trove.map.hash.TIntIntHashMap;
+import model.lns.AdaptiveNeighbor;
+import model.lns.FragmentLimits;
+import model.lns.RNMPNeighbors;
+import model.profiling.ProfilingEngine;
 import org.chocosolver.solver.Model;
-import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
-import org.chocosolver.solver.search.limits.FailCounter;
-import org.chocosolver.solver.search.loop.lns.INeighborFactory;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.search.strategy.selectors.values.IntValueSelector;
@@ -46,10 +43,23 @@ public class RNMPEasy {
     // TASKS
     Task[] tasks;
 
+    // only creates perturbation variables for reachable (road, time) cells
+    boolean sparse;
+
 
     public RNMPEasy(Instance instance) {
+        this(instance, RNMP.RANDOM_SEARCH, 0);
+    }
+
+    public RNMPEasy(Instance instance, int searchType, long seed) {
+        this(instance, searchType, seed, true);
+    }
+
+    public RNMPEasy(Instance instance, int searchType, long seed, boolean sparse) {
         this.instance = instance;
+        this.sparse = sparse;
         model = new Model("RNMPEasy");
+        ProfilingEngine.plugIfEnabled(model);
 
         makeTasksAndIsDone();
         makePerturbation();
@@ -57,7 +67,11 @@ public class RNMPEasy {
         makePrecedences();
 
         makeObj();
-        makeSearch();
+        makeSearch(searchType, seed);
+    }
+
+    public Model getModel() {
+        return model;
     }
 
     public IntVar getStartWorksheet(int i) {
@@ -69,7 +83,7 @@ public class RNMPEasy {
     }
 
     public void makePerturbation() {
-        roadsPerturbation = model.boolVarMatrix("roadsPerturbation", instance.roadsCost.length, instance.horizon);
+        roadsPerturbation = RNMP.makeRoadsPerturbation(model, instance, sparse);
         model.post(new Constraint("CHANNELING_CONSTRAINT", new PropChannelingRoadPerturbationEasy(instance, tasks, roadsPerturbation)));
     }
 
@@ -91,118 +105,50 @@ public class RNMPEasy {
         for(Worksheet ws : instance.worksheets) {
             sum += ws.importance;
         }
+        int[] totalCost = instance.roadCosts().totalCostPerTime();
         for(int t = 0; t<instance.horizon; t++) {
-            int a = 0;
-            for(int i = 0; i<instance.roadsCost.length; i++) {
-                a -= instance.roadsCost[i][t];
-            }
-            min = Math.min(min, a);
+            min = Math.min(min, -totalCost[t]);
         }
 
         obj = model.intVar("obj", min, sum);
 
         IntVar maxPerturbation = model.intVar("maxPerturbation", 0, -min);
-        IntVar[] sumPerturbation = model.intVarArray("sumPerturbation", instance.horizon, 0, -min);
-        for(int j = 0; j<sumPerturbation.length; j++) {
-            int[] coefs = new int[roadsPerturbation.length];
-            IntVar[] tmp = new IntVar[roadsPerturbation.length];
-            for(int i = 0; i<roadsPerturbation.length; i++) {
-                coefs[i] = instance.roadsCost[i][j];
-                tmp[i] = roadsPerturbation[i][j];
-            }
-            model.scalar(tmp, coefs, "=", sumPerturbation[j]).post();
-        }
-        model.max(maxPerturbation, sumPerturbation).post();
+        IntVar[] starts = Arrays.stream(tasks).map(Task::getStart).toArray(IntVar[]::new);
+        model.post(new Constraint("MAX_PERTURBATION_CONSTRAINT", new PropMaxTimePerturbation(instance, starts, null, maxPerturbation)));
 
         model.arithm(obj, "+", maxPerturbation, "=", sum).post();
 
         model.setObjective(true, obj);
     }
 
-    public void makeSearch() {
+    public void makeSearch(int searchType, long seed) {
         IntVar[] decVars = Arrays.stream(tasks).map(t -> t.getStart()).toArray(IntVar[]::new);
 
-		/*
-		model.getSolver().setSearch(Search.inputOrderUBSearch(decVars));
-		//*/
-        int[] nbPrecedences = new int[tasks.length];
-        ArrayList<Integer>[] prec = new ArrayList[tasks.length];
-        for(int k = 0; k<tasks.length; k++) {
-            prec[k] = new ArrayList<>();
-        }
-        for(int i = 0; i<instance.precedences.length; i++) {
-            prec[instance.precedences[i][1]].add(instance.precedences[i][0]);
+        if(searchType == RNMP.INPUT_ORDER_SEARCH) {
+            model.getSolver().setSearch(Search.inputOrderUBSearch(decVars));
+            return;
         }
+        int[] nbPrecedences = new int[tasks.length];
         for(int i = 0; i<nbPrecedences.length; i++) {
-            nbPrecedences[i] = computeNbPrec(prec, i);
+            nbPrecedences[i] = instance.precedenceGraph().nbAncestorPaths(i);
         }
-        model.getSolver().setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
-            @Override
-            public IntVar getVariable(IntVar[] variables) {
-                /*
-                int lessInc = Integer.MAX_VALUE;
-                int bestIdx = -1;
-                for(int i = 0; i<tasks.length; i++) {
-                    IntVar var = getStartWorksheet(i);
-                    if(!var.isInstantiated()) {
-                        int a = Integer.MAX_VALUE;
-                        for(int t = var.getLB(); t<=var.getUB(); t=var.nextValue(t)) {
-                            a = Math.min(a, computeIncreasePerturbation(i, t));
-                        }
-                        if(a < lessInc) {
-                            lessInc = a;
-                            bestIdx = i;
-                        }
-                    }
-                }
-                if(bestIdx == -1) {
-                    return null;
-                } else {
-                    return getStartWorksheet(bestIdx);
-                }
-                //*/
-                //*
-                int best = -1;
-                for(int i = 0; i<tasks.length; i++) {
-                    if(!getStartWorksheet(i).isInstantiated() && (best==-1 || nbPrecedences[best]<nbPrecedences[i])) {
-                        best = i;
-                    }
-                }
-                if(best == -1) {
-                    return null;
-                } else {
-                    return getStartWorksheet(best);
-                }
-                //*/
-            }
-        }, new IntValueSelector() {
-            @Override
-            public int selectValue(IntVar var) {
-                int id = -1;
-                for(int i = 0; i<nbPrecedences.length; i++) {
-                    if(getStartWorksheet(i).equals(var)) {
-                        id = i;
-                        break;
-                    }
+        // variable id -> worksheet
+        TIntIntHashMap ids = new TIntIntHashMap(decVars.length);
+        for(int i = 0; i<decVars.length; i++) {
+            ids.put(decVars[i].getId(), i);
+        }
+        BestStartSelector bestStartSelector = new BestStartSelector(instance, roadsPerturbation, true);
+        if(searchType == RNMP.HOME_MADE_SEARCH) {
+            model.getSolver().setSearch(Search.intVarSearch(new IndexedWorksheetSelector(decVars, null, nbPrecedences), new IntValueSelector() {
+                @Override
+                public int selectValue(IntVar var) {
+                    int id = ids.get(var.getId());
+                    return bestStartSelector.bestStart(id, var);
                 }
-//                if(nbPrecedences[id] > 0) {
-//                    return var.getUB();
-//                } else {
-                    int bestStart = -1;
-                    int lessInc = Integer.MAX_VALUE;
-                    for(int t = var.getLB(); t<=var.getUB(); t=var.nextValue(t)) {
-                        int inc = computeIncreasePerturbation(id, t);
-                        if(inc < lessInc) {
-                            lessInc = inc;
-                            bestStart = t;
-                        }
-                    }
-                    return bestStart;
-//                }
-            }
-        }, decVars));
-        //*
-        Random rnd = new Random(0);
+            }, decVars));
+            return;
+        }
+        Random rnd = new Random(seed);
         TIntArrayList list = new TIntArrayList();
         model.getSolver().setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
             @Override
@@ -223,45 +169,28 @@ public class RNMPEasy {
             @Override
             public int selectValue(IntVar var) {
 //                return var.getUB();
-                int id = -1;
-                for(int i = 0; i<nbPrecedences.length; i++) {
-                    if(getStartWorksheet(i).equals(var)) {
-                        id = i;
-                        break;
-                    }
-                }
-                int bestStart = -1;
-                int lessInc = Integer.MAX_VALUE;
-                for(int t = var.getLB(); t<=var.getUB(); t++) {
-                    int inc = computeIncreasePerturbation(id, t);
-                    if(inc < lessInc) {
-                        lessInc = inc;
-                        bestStart = t;
-                    }
-                }
-                return bestStart;
+                int id = ids.get(var.getId());
+                return bestStartSelector.bestStart(id, var);
             }
         }, decVars));
-        //*/
     }
 
-    private int computeIncreasePerturbation(int id, int start) {
-        int inc = 0;
-        for(int k = 0; k<instance.worksheets[id].duration; k++) {
-            int idRoad = instance.worksheets[id].roadsID[k];
-            if(!roadsPerturbation[idRoad][start+k].isInstantiated()) {
-                inc += instance.roadsCost[idRoad][start+k];
-            }
+    public int[][] getSolution() {
+        int[][] best = new int[tasks.length][2];
+        for(int i = 0; i<tasks.length; i++) {
+            best[i][0] = i;
+            best[i][1] = getStartWorksheet(i).getValue();
         }
-        return inc;
+        return best;
     }
 
-    private static int computeNbPrec(ArrayList<Integer>[] prec, int i) {
-        int sum = 0;
-        for(int p : prec[i]) {
-            sum += 1+computeNbPrec(prec, p);
+    // start of each worksheet, all of them being done
+    public int[] getStarts() {
+        int[] starts = new int[tasks.length];
+        for(int i = 0; i<tasks.length; i++) {
+            starts[i] = getStartWorksheet(i).getValue();
         }
-        return sum;
+        return starts;
     }
 
     public void makePrecedences() {
@@ -278,8 +207,14 @@ public class RNMPEasy {
         }
         int[][] best = null;
         Integer bestObj = 0;
-        int bestKnown = computeObjectiveOfSolution(instance, "results/"+instance.name+".txt");
+        WarmStart warmStart = WarmStart.fromResults(instance);
+        BestSolutionWriter writer = new BestSolutionWriter(instance);
+
+        if(warmStart != null) {
+            warmStart.apply(model, null, Arrays.stream(tasks).map(Task::getStart).toArray(IntVar[]::new), null);
+        }
 
+        Trace trace = TraceMonitor.plug(model.getSolver(), instance.name, "cp", 0, null);
         while(model.getSolver().solve()) {
             bestObj = obj.getValue();
             best = new int[tasks.length][2];
@@ -288,92 +223,46 @@ public class RNMPEasy {
                 best[i][1] = getStartWorksheet(i).getValue();
             }
             System.out.println(instance.name+" -> "+obj.getValue()+" : "+Arrays.deepToString(best));
-            if(bestKnown<bestObj) {
-                FileWriter fw = new FileWriter("results/"+instance.name+".txt");
-                for(int i = 0; i<best.length; i++) {
-                    fw.write(best[i][0]+" "+best[i][1]+" "+"\n");
-                }
-                fw.close();
-            }
+            writer.offer(bestObj, getStarts());
         }
+        writer.close();
 
         model.getSolver().printStatistics();
+        ProfilingEngine.printIfEnabled(model);
+        trace.write();
+    }
+
+    // Adaptive LNS over the worksheets, with fail limits and fragment sizes tuned per neighborhood
+    public FragmentLimits setLNS(long seed) {
+        IntVar[] starts = Arrays.stream(tasks).map(Task::getStart).toArray(IntVar[]::new);
+        AdaptiveNeighbor neighbor = RNMPNeighbors.adaptive(instance, null, starts, seed);
+        FragmentLimits limits = new FragmentLimits(model.getSolver(), neighbor, tasks.length);
+        model.getSolver().setLNS(neighbor, limits);
+        return limits;
     }
 
     public void lnsSolve(String timeLimit) throws IOException, ContradictionException {
-        int bestKnown = computeObjectiveOfSolution(instance, "results/"+instance.name+".txt");
-        IntVar[] ivars = Arrays.stream(tasks).map(Task::getStart).toArray(IntVar[]::new);
+        WarmStart warmStart = WarmStart.fromResults(instance);
+        BestSolutionWriter writer = new BestSolutionWriter(instance);
+        IntVar[] starts = Arrays.stream(tasks).map(Task::getStart).toArray(IntVar[]::new);
         model.getSolver().limitTime(timeLimit);
 //        model.getSolver().showSolutions();
 
         model.getSolver().plugMonitor((IMonitorSolution) () -> {
             System.out.println(obj.getValue());
-            if(bestKnown<obj.getValue()) {
-                int[][] best = new int[tasks.length][2];
-                for(int i = 0; i<tasks.length; i++) {
-                    best[i][0] = i;
-                    best[i][1] = getStartWorksheet(i).getValue();
-                }
-                try {
-                    FileWriter fw = new FileWriter("results/"+instance.name+".txt");
-                    for(int i = 0; i<best.length; i++) {
-                        fw.write(best[i][0]+" "+best[i][1]+"\n");
-                    }
-                    fw.close();
-                } catch(IOException ex) {
-                    ex.printStackTrace();
-                }
-            }
+            writer.offer(obj.getValue(), getStarts());
         });
 
-        model.getSolver().setLNS(INeighborFactory.random(ivars), new FailCounter(model.getSolver(), 100));
-        Solution solution = model.getSolver().findOptimalSolution(obj, Model.MAXIMIZE);
-
-        if(bestKnown<solution.getIntVal(obj)) {
-            int[][] best = new int[tasks.length][2];
-            for(int i = 0; i<tasks.length; i++) {
-                best[i][0] = i;
-                best[i][1] = solution.getIntVal(getStartWorksheet(i));
-            }
-            try {
-                FileWriter fw = new FileWriter("results/"+instance.name+".txt");
-                for(int i = 0; i<best.length; i++) {
-                    fw.write(best[i][0]+" "+best[i][1]+"\n");
-                }
-                fw.close();
-            } catch(IOException ex) {
-                ex.printStackTrace();
-            }
-        }
-    }
-
-    public static int computeObjectiveOfSolution(Instance instance, String path) throws IOException, ContradictionException {
-        RNMP rnmp = new RNMP(instance);
-        if(!new File(path).exists()) {
-            return Integer.MIN_VALUE;
-        }
-        Scanner scanner = new Scanner(new FileReader(path));
-        while(scanner.hasNextLine()) {
-            String[] line = scanner.nextLine().split(" ");
-            int id = Integer.parseInt(line[0]);
-            int start = Integer.parseInt(line[1]);
-            rnmp.isDone[id].instantiateTo(1, Cause.Null);
-            rnmp.getStartWorksheet(id).instantiateTo(start, Cause.Null);
+        FragmentLimits limits = setLNS(0);
+        if(warmStart != null) {
+            warmStart.apply(model, null, starts, limits.getNeighbor());
         }
-        scanner.close();
-        for(int i = 0; i<rnmp.isDone.length; i++) {
-            if(!rnmp.isDone[i].isInstantiated()) {
-                rnmp.isDone[i].instantiateTo(0, Cause.Null);
-            }
-        }
-        rnmp.model.getSolver().propagate();
-        return rnmp.obj.getValue();
-    }
-
-    public static void main(String[] args) throws IOException, ContradictionException{
-        String instanceName = "HARD_5000_1500";
-        Instance instance = Factory.fromFile("data/"+instanceName+".json", Instance.class);
-        int obj = computeObjectiveOfSolution(instance, "results/"+instanceName+".txt");
-        System.out.println(obj);
+        Trace trace = TraceMonitor.plug(model.getSolver(), instance.name, "lns", 0, limits.getNeighbor());
+        while(model.getSolver().solve());
+        writer.close();
+        System.out.print(limits.getNeighbor());
+        System.out.print(limits);
+        ProfilingEngine.printIfEnabled(model);
+        trace.write();
     }
 }
@@ -0,0 +1,55 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import eval.Trace;
+import model.lns.AdaptiveNeighbor;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
+import org.chocosolver.solver.search.loop.monitors.IMonitorOpenNode;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+
+// Fills a Trace from the search of a solver : a point on each solution, which improves the objective as the solver
+// optimizes, on the first node opened after each Trace.INTERVAL and when the search stops.
+// neighbor is the LNS neighbor, or null.
+public class TraceMonitor implements IMonitorSolution, IMonitorOpenNode, IMonitorClose {
+    private Solver solver;
+    private Trace trace;
+    private AdaptiveNeighbor neighbor;
+
+    private TraceMonitor(Solver solver, Trace trace, AdaptiveNeighbor neighbor) {
+        this.solver = solver;
+        this.trace = trace;
+        this.neighbor = neighbor;
+    }
+
+    public static Trace plug(Solver solver, String instance, String config, long seed, AdaptiveNeighbor neighbor) {
+        Trace trace = new Trace(instance, config, seed, neighbor == null ? new String[0] : neighbor.getNames());
+        solver.plugMonitor(new TraceMonitor(solver, trace, neighbor));
+        return trace;
+    }
+
+    private int neighborhood() {
+        return neighbor == null ? -1 : neighbor.getCurrent();
+    }
+
+    @Override
+    public void onSolution() {
+        trace.improve(solver.getObjectiveManager().getBestSolutionValue().intValue(), solver.getNodeCount(), solver.getFailCount(),
+                solver.getRestartCount(), neighborhood());
+    }
+
+    @Override
+    public void afterOpenNode() {
+        if(trace.isDue()) {
+            trace.sample(solver.getNodeCount(), solver.getFailCount(), solver.getRestartCount(), neighborhood());
+        }
+    }
+
+    @Override
+    public void afterClose() {
+        trace.end(solver.getNodeCount(), solver.getFailCount(), solver.getRestartCount(), neighborhood());
+    }
+}
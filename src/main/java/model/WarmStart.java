@@ -0,0 +1,81 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model;
+
+import data.input.Instance;
+import eval.SolutionChecker;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.lns.neighbors.Neighbor;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.io.IOException;
+import java.util.List;
+
+// Starts a search from the schedule of results/<name>.txt : its objective becomes the objective cut, so that only
+// better solutions are searched for, and with LNS it is the first reference solution of the neighborhoods
+public class WarmStart {
+    private Instance instance;
+    private int[] starts; // -1 when not done
+    private int objective;
+
+    private WarmStart(Instance instance, int[] starts) {
+        this.instance = instance;
+        this.starts = starts;
+        this.objective = SolutionChecker.computeObjective(instance, starts);
+    }
+
+    // Returns null if results/<name>.txt does not exist or is infeasible
+    public static WarmStart fromResults(Instance instance) throws IOException {
+        String path = "results/"+instance.name+".txt";
+        int[][] solution = SolutionChecker.readSolution(path);
+        if(solution == null) {
+            return null;
+        }
+        List<String> violations = SolutionChecker.checkSolution(instance, solution);
+        if(!violations.isEmpty()) {
+            System.out.println(path+" is infeasible : "+violations.get(0));
+            return null;
+        }
+        return new WarmStart(instance, SolutionChecker.toStarts(instance, solution));
+    }
+
+    public int getObjective() {
+        return objective;
+    }
+
+    // isDone can be null (RNMPEasy). neighbor is the one given to setLNS, null without LNS. Must be called after
+    // setLNS, if any, and before solving.
+    public void apply(Model model, BoolVar[] isDone, IntVar[] startVars, Neighbor neighbor) {
+        Solver solver = model.getSolver();
+        solver.getObjectiveManager().updateBestSolution(objective);
+        if(neighbor != null) {
+            Solution solution = new Solution(model);
+            for(int w = 0; w<starts.length; w++) {
+                if(isDone != null) {
+                    solution.setIntVal(isDone[w], starts[w] >= 0 ? 1 : 0);
+                }
+                // a worksheet not done starts at its est in RNMP
+                solution.setIntVal(startVars[w], starts[w] >= 0 ? starts[w] : instance.worksheets[w].est);
+            }
+            ((MoveLNS) solver.getMove()).loadFromSolution(solution, solver);
+            // loadFromSolution counts the warm start as the first solution, so MoveLNS only records the solutions
+            // found from the second one : the first one is recorded here, else the next fragments would still be
+            // built around the warm start
+            boolean[] recorded = {false};
+            solver.plugMonitor((IMonitorSolution) () -> {
+                if(!recorded[0]) {
+                    recorded[0] = true;
+                    neighbor.recordSolution();
+                }
+            });
+        }
+        System.out.println(instance.name+" -> "+objective+" (warm start)");
+    }
+}
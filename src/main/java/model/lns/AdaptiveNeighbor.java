@@ -0,0 +1,160 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.lns.neighbors.Neighbor;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+// Adaptive LNS : each fragment comes from a neighbor drawn with probability proportional to its weight.
+// After each fragment, weight = (1-REACTION)*weight + REACTION*score, where score is 1 if the fragment led to
+// a solution (hence an improving one) and 0 otherwise, so the weights follow what improves the objective right now.
+// With FragmentLimits, the fail limit and the number of relaxed worksheets of each fragment depend on its neighborhood.
+public class AdaptiveNeighbor extends Neighbor {
+    private static final double REACTION = 0.2;
+    private static final double MIN_WEIGHT = 0.05;
+
+    private Neighbor[] neighbors;
+    private double[] weights;
+    private int[] nbCalls;
+    private int[] nbSuccesses;
+    private Random random;
+    private int current;
+    private FragmentLimits limits;
+
+    public AdaptiveNeighbor(IntVar[] variables, long seed, Neighbor... neighbors) {
+        super(variables);
+        this.neighbors = neighbors;
+        this.weights = new double[neighbors.length];
+        this.nbCalls = new int[neighbors.length];
+        this.nbSuccesses = new int[neighbors.length];
+        this.random = new Random(seed);
+        this.current = -1;
+        for(int i = 0; i<neighbors.length; i++) {
+            weights[i] = 1;
+        }
+    }
+
+    public int getNbNeighbors() {
+        return neighbors.length;
+    }
+
+    public String getName(int i) {
+        return neighbors[i].getClass().getSimpleName();
+    }
+
+    public String[] getNames() {
+        String[] names = new String[neighbors.length];
+        for(int i = 0; i<names.length; i++) {
+            names[i] = getName(i);
+        }
+        return names;
+    }
+
+    // Neighborhood of the current fragment, -1 before the first one
+    public int getCurrent() {
+        return current;
+    }
+
+    void setLimits(FragmentLimits limits) {
+        this.limits = limits;
+    }
+
+    private void reward(double score) {
+        if(current >= 0) {
+            weights[current] = Math.max(MIN_WEIGHT, (1-REACTION)*weights[current]+REACTION*score);
+        }
+    }
+
+    private int select() {
+        double sum = 0;
+        for(double weight : weights) {
+            sum += weight;
+        }
+        double r = random.nextDouble()*sum;
+        for(int i = 0; i<weights.length-1; i++) {
+            r -= weights[i];
+            if(r < 0) {
+                return i;
+            }
+        }
+        return weights.length-1;
+    }
+
+    @Override
+    public void init() {
+        for(Neighbor neighbor : neighbors) {
+            neighbor.init();
+        }
+    }
+
+    @Override
+    public void recordSolution() {
+        for(Neighbor neighbor : neighbors) {
+            neighbor.recordSolution();
+        }
+        if(current >= 0) {
+            nbSuccesses[current]++;
+            if(limits != null) {
+                limits.end(current, true);
+            }
+        }
+        reward(1);
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        for(Neighbor neighbor : neighbors) {
+            neighbor.loadFromSolution(solution);
+        }
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        current = select();
+        nbCalls[current]++;
+        if(limits != null) {
+            int nbRelaxed = limits.start(current);
+            if(neighbors[current] instanceof WorksheetNeighbor) {
+                ((WorksheetNeighbor) neighbors[current]).setNbRelaxed(nbRelaxed);
+            }
+        }
+        neighbors[current].fixSomeVariables();
+    }
+
+    @Override
+    public void restrictLess() {
+        reward(0);
+        if(current >= 0) {
+            if(limits != null) {
+                limits.end(current, false);
+            }
+            neighbors[current].restrictLess();
+        }
+    }
+
+    @Override
+    public boolean isSearchComplete() {
+        for(Neighbor neighbor : neighbors) {
+            if(!neighbor.isSearchComplete()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i<neighbors.length; i++) {
+            sb.append(getName(i)).append(" : weight ").append(String.format("%.2f", weights[i]))
+                    .append(", ").append(nbSuccesses[i]).append("/").append(nbCalls[i]).append(" fragments improving\n");
+        }
+        return sb.toString();
+    }
+}
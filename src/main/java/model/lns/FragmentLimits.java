@@ -0,0 +1,114 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.limits.ACounter;
+
+// Fail limit of the LNS fragments, tuned per neighborhood of an AdaptiveNeighbor along with the fraction of worksheets
+// it relaxes. After a fragment of neighborhood i :
+// - improving : nothing changes;
+// - fully explored without improving : the fragment was too small, the fraction grows. The fail budget shrinks if
+//   the fragment used less than a quarter of it, or if the fraction is already at its maximum, down to INITIAL_FAILS;
+// - stopped by the fail limit : the fraction shrinks, or the fail budget grows if the fraction is already at its
+//   minimum while the recent success rate of i is low.
+// Fractions hence converge to the size where fragments are just solved within their budget, and budgets to what
+// these fragments need.
+// After STAGNATION fragments without improvement, every budget and fraction restarts from its initial value.
+// Only fails are limited, not time : a fail budget gives the same fragments whatever the load of the machine, so that
+// runs with the same seed can be compared, and the time limit of the solve bounds the whole search.
+public class FragmentLimits extends ACounter {
+    public static final int INITIAL_FAILS = 100;
+    public static final int MAX_FAILS = 2000;
+    public static final int STAGNATION = 500;
+    public static final int LOG_FREQUENCY = 200;
+    public static final double MAX_FRACTION = 0.5;
+    private static final double LOW_SUCCESS = 0.2;
+
+    private AdaptiveNeighbor neighbor;
+    private int nbWorksheets;
+    private double initialFraction;
+    private double minFraction;
+
+    private long[] budget;
+    private double[] fraction;
+    private double[] success; // exponential average of the outcomes of the fragments of each neighborhood
+    private long fragmentStart; // fail count when the current fragment started
+    private int nbFragments;
+    private int nbWithoutImprovement;
+
+    public FragmentLimits(Solver solver, AdaptiveNeighbor neighbor, int nbWorksheets) {
+        super(solver.getMeasures(), INITIAL_FAILS);
+        this.neighbor = neighbor;
+        this.nbWorksheets = nbWorksheets;
+        this.initialFraction = Math.min(1, Math.max(5.0/nbWorksheets, 0.02));
+        this.minFraction = Math.min(initialFraction, 2.0/nbWorksheets);
+        int n = neighbor.getNbNeighbors();
+        this.budget = new long[n];
+        this.fraction = new double[n];
+        this.success = new double[n];
+        reset();
+        neighbor.setLimits(this);
+    }
+
+    public AdaptiveNeighbor getNeighbor() {
+        return neighbor;
+    }
+
+    @Override
+    public long currentValue() {
+        return measures.getFailCount();
+    }
+
+    private void reset() {
+        for(int i = 0; i<budget.length; i++) {
+            budget[i] = INITIAL_FAILS;
+            fraction[i] = initialFraction;
+            success[i] = 0.5;
+        }
+        nbWithoutImprovement = 0;
+    }
+
+    // Sets the fail limit of a fragment of neighborhood i and returns the number of worksheets to relax
+    public int start(int i) {
+        fragmentStart = currentValue();
+        overrideLimit(fragmentStart+budget[i]);
+        return Math.max(1, (int) Math.round(fraction[i]*nbWorksheets));
+    }
+
+    public void end(int i, boolean improved) {
+        nbFragments++;
+        success[i] = 0.8*success[i]+(improved ? 0.2 : 0);
+        if(improved) {
+            nbWithoutImprovement = 0;
+        } else if(!isMet()) {
+            if(fraction[i] == MAX_FRACTION || 4*(currentValue()-fragmentStart) < budget[i]) {
+                budget[i] = Math.max(INITIAL_FAILS, budget[i]*4/5);
+            }
+            fraction[i] = Math.min(MAX_FRACTION, fraction[i]*1.1);
+        } else if(fraction[i] > minFraction) {
+            fraction[i] = Math.max(minFraction, fraction[i]*0.9);
+        } else if(success[i] < LOW_SUCCESS) {
+            budget[i] = Math.min(MAX_FAILS, budget[i]*5/4);
+        }
+        if(!improved && ++nbWithoutImprovement >= STAGNATION) {
+            System.out.println("LNS restart after "+STAGNATION+" fragments without improvement");
+            reset();
+        }
+        if(nbFragments%LOG_FREQUENCY == 0) {
+            System.out.print(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("LNS limits after "+nbFragments+" fragments\n");
+        for(int i = 0; i<budget.length; i++) {
+            sb.append("  ").append(neighbor.getName(i)).append(" : ").append(budget[i]).append(" fails, ")
+                    .append(String.format("%.3f", fraction[i])).append(" relaxed, success ").append(String.format("%.2f", success[i])).append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import data.input.Instance;
+import data.input.Worksheet;
+import eval.SolutionChecker;
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+// Relaxes the worksheets perturbing the time steps of highest perturbation in the reference solution,
+// then the worksheets that could be moved onto the roads they use around that time
+public class PeakRoadsNeighbor extends WorksheetNeighbor {
+    private static final int NB_PEAKS = 5;
+
+    private int[] starts;
+    private int[][] worksheetsOfRoad;
+
+    public PeakRoadsNeighbor(Instance instance, BoolVar[] isDone, IntVar[] starts, long seed) {
+        super(instance, isDone, starts, seed);
+        this.starts = new int[nbWorksheets];
+        TIntArrayList[] lists = new TIntArrayList[instance.roadsCost.length];
+        for(int r = 0; r<lists.length; r++) {
+            lists[r] = new TIntArrayList();
+        }
+        for(int w = 0; w<nbWorksheets; w++) {
+            for(int road : instance.worksheets[w].roadsID) {
+                if(lists[road].isEmpty() || lists[road].getQuick(lists[road].size()-1) != w) {
+                    lists[road].add(w);
+                }
+            }
+        }
+        this.worksheetsOfRoad = Arrays.stream(lists).map(TIntArrayList::toArray).toArray(int[][]::new);
+    }
+
+    // Picks one of the NB_PEAKS most perturbed time steps
+    private int selectPeak() {
+        for(int w = 0; w<nbWorksheets; w++) {
+            starts[w] = isDone(w) ? start(w) : -1;
+        }
+        int[] perturbation = SolutionChecker.computePerturbation(instance, starts);
+        int[] peaks = new int[Math.min(NB_PEAKS, perturbation.length)];
+        Arrays.fill(peaks, -1);
+        for(int t = 0; t<perturbation.length; t++) {
+            for(int k = 0; k<peaks.length; k++) {
+                if(peaks[k] == -1 || perturbation[peaks[k]] < perturbation[t]) {
+                    System.arraycopy(peaks, k, peaks, k+1, peaks.length-k-1);
+                    peaks[k] = t;
+                    break;
+                }
+            }
+        }
+        return peaks[random.nextInt(peaks.length)];
+    }
+
+    @Override
+    protected void selectRelaxed() {
+        int peak = selectPeak();
+        TIntArrayList roads = new TIntArrayList();
+        for(int w = 0; w<nbWorksheets && !isFull(); w++) {
+            Worksheet ws = instance.worksheets[w];
+            if(starts[w] >= 0 && starts[w] <= peak && peak < starts[w]+ws.duration) {
+                relaxed.set(w);
+                roads.add(ws.roadsID[peak-starts[w]]);
+            }
+        }
+        roads.shuffle(random);
+        for(int i = 0; i<roads.size() && !isFull(); i++) {
+            for(int w : worksheetsOfRoad[roads.getQuick(i)]) {
+                Worksheet ws = instance.worksheets[w];
+                if(ws.est <= peak && peak < ws.lst+ws.duration) {
+                    relaxed.set(w);
+                    if(isFull()) {
+                        break;
+                    }
+                }
+            }
+        }
+        fillRandomly();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import data.input.Instance;
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+// Relaxes precedence chains : breadth-first search over the precedences, in both directions,
+// from random worksheets involved in a precedence
+public class PrecedenceChainNeighbor extends WorksheetNeighbor {
+    private int[][] linked;
+    private int[] chained;
+
+    public PrecedenceChainNeighbor(Instance instance, BoolVar[] isDone, IntVar[] starts, long seed) {
+        super(instance, isDone, starts, seed);
+        TIntArrayList[] lists = new TIntArrayList[nbWorksheets];
+        for(int w = 0; w<nbWorksheets; w++) {
+            lists[w] = new TIntArrayList();
+        }
+        for(int[] prec : instance.precedences) {
+            lists[prec[0]].add(prec[1]);
+            lists[prec[1]].add(prec[0]);
+        }
+        this.linked = new int[nbWorksheets][];
+        TIntArrayList chained = new TIntArrayList();
+        for(int w = 0; w<nbWorksheets; w++) {
+            linked[w] = lists[w].toArray();
+            if(linked[w].length > 0) {
+                chained.add(w);
+            }
+        }
+        this.chained = chained.toArray();
+    }
+
+    @Override
+    protected void selectRelaxed() {
+        if(chained.length == 0) {
+            fillRandomly();
+            return;
+        }
+        TIntArrayList queue = new TIntArrayList();
+        while(!isFull()) {
+            int root = chained[random.nextInt(chained.length)];
+            for(int k = 0; k<chained.length && relaxed.get(root); k++) {
+                root = chained[random.nextInt(chained.length)];
+            }
+            if(relaxed.get(root)) {
+                // (nearly) every chain is already relaxed
+                fillRandomly();
+                return;
+            }
+            relaxed.set(root);
+            queue.resetQuick();
+            queue.add(root);
+            for(int k = 0; k<queue.size() && !isFull(); k++) {
+                for(int next : linked[queue.getQuick(k)]) {
+                    if(!relaxed.get(next)) {
+                        relaxed.set(next);
+                        queue.add(next);
+                        if(isFull()) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import data.input.Instance;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+
+// isDone can be null (RNMPEasy)
+public class RNMPNeighbors {
+
+    // Adaptive choice between the random neighborhood and the RNMP ones.
+    // The work center neighborhood is only added when work centers are constrained (MEDIUM and HARD instances).
+    public static AdaptiveNeighbor adaptive(Instance instance, BoolVar[] isDone, IntVar[] starts, long seed) {
+        IntVar[] ivars = isDone == null ? starts : ArrayUtils.append(isDone, starts);
+        RandomNeighborhood random = new RandomNeighborhood(ivars, 3, seed);
+        TimeWindowNeighbor timeWindow = new TimeWindowNeighbor(instance, isDone, starts, seed+1);
+        PeakRoadsNeighbor peakRoads = new PeakRoadsNeighbor(instance, isDone, starts, seed+2);
+        PrecedenceChainNeighbor precedenceChain = new PrecedenceChainNeighbor(instance, isDone, starts, seed+3);
+        if(instance.name.contains("EASY")) {
+            return new AdaptiveNeighbor(ivars, seed, random, timeWindow, peakRoads, precedenceChain);
+        }
+        WorkCenterNeighbor workCenter = new WorkCenterNeighbor(instance, isDone, starts, seed+4);
+        return new AdaptiveNeighbor(ivars, seed, random, timeWindow, peakRoads, precedenceChain, workCenter);
+    }
+}
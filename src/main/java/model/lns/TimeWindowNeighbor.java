@@ -0,0 +1,39 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import data.input.Instance;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Arrays;
+
+// Relaxes the worksheets running in a slice of time : done worksheets are ordered by start in the reference solution,
+// the other ones by est, and the slice is nbRelaxed consecutive worksheets from a random position
+public class TimeWindowNeighbor extends WorksheetNeighbor {
+    private Integer[] order;
+
+    public TimeWindowNeighbor(Instance instance, BoolVar[] isDone, IntVar[] starts, long seed) {
+        super(instance, isDone, starts, seed);
+        this.order = new Integer[nbWorksheets];
+        for(int w = 0; w<nbWorksheets; w++) {
+            order[w] = w;
+        }
+    }
+
+    private int time(int w) {
+        return isDone(w) ? start(w) : instance.worksheets[w].est;
+    }
+
+    @Override
+    protected void selectRelaxed() {
+        Arrays.sort(order, (a, b) -> Integer.compare(time(a), time(b)));
+        int from = random.nextInt(Math.max(1, nbWorksheets-nbRelaxed+1));
+        for(int k = from; k<nbWorksheets && !isFull(); k++) {
+            relaxed.set(order[k]);
+        }
+        fillRandomly();
+    }
+}
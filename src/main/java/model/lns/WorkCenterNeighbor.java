@@ -0,0 +1,62 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import data.input.Instance;
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+// Relaxes worksheets of a random work center, the closest in time to a random worksheet of that center
+public class WorkCenterNeighbor extends WorksheetNeighbor {
+    private int[][] worksheetsOfCenter;
+
+    public WorkCenterNeighbor(Instance instance, BoolVar[] isDone, IntVar[] starts, long seed) {
+        super(instance, isDone, starts, seed);
+        TIntArrayList[] lists = new TIntArrayList[instance.workCenters.length];
+        for(int c = 0; c<lists.length; c++) {
+            lists[c] = new TIntArrayList();
+        }
+        for(int w = 0; w<nbWorksheets; w++) {
+            lists[instance.worksheets[w].workCenterID].add(w);
+        }
+        this.worksheetsOfCenter = new int[lists.length][];
+        for(int c = 0; c<lists.length; c++) {
+            worksheetsOfCenter[c] = lists[c].toArray();
+        }
+    }
+
+    private int time(int w) {
+        return isDone(w) ? start(w) : instance.worksheets[w].est;
+    }
+
+    @Override
+    protected void selectRelaxed() {
+        int[] center = worksheetsOfCenter[instance.worksheets[random.nextInt(nbWorksheets)].workCenterID];
+        int time = time(center[random.nextInt(center.length)]);
+        int[] distance = new int[center.length];
+        for(int k = 0; k<center.length; k++) {
+            distance[k] = Math.abs(time(center[k])-time);
+        }
+        // partial selection sort of the nbRelaxed closest worksheets
+        int[] ids = center.clone();
+        for(int k = 0; k<ids.length && !isFull(); k++) {
+            int best = k;
+            for(int l = k+1; l<ids.length; l++) {
+                if(distance[l] < distance[best]) {
+                    best = l;
+                }
+            }
+            int tmp = ids[k];
+            ids[k] = ids[best];
+            ids[best] = tmp;
+            tmp = distance[k];
+            distance[k] = distance[best];
+            distance[best] = tmp;
+            relaxed.set(ids[k]);
+        }
+        fillRandomly();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.lns;
+
+import data.input.Instance;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.lns.neighbors.Neighbor;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.BitSet;
+import java.util.Random;
+
+// Relaxes a set of worksheets chosen by selectRelaxed and freezes isDone and start of every other worksheet.
+// Variables are isDone then starts, or only starts when isDone is null (RNMPEasy).
+// The number of relaxed worksheets grows on each fragment without solution and goes back to its minimum on success.
+public abstract class WorksheetNeighbor extends Neighbor {
+    protected Instance instance;
+    protected int nbWorksheets;
+    protected boolean optional;
+    protected Random random;
+    protected BitSet relaxed;
+
+    protected int minRelaxed;
+    protected int maxRelaxed;
+    protected int nbRelaxed;
+
+    public WorksheetNeighbor(Instance instance, BoolVar[] isDone, IntVar[] starts, long seed) {
+        super(isDone == null ? starts : ArrayUtils.append(isDone, starts));
+        this.instance = instance;
+        this.nbWorksheets = starts.length;
+        this.optional = isDone != null;
+        this.random = new Random(seed);
+        this.relaxed = new BitSet(nbWorksheets);
+        this.minRelaxed = Math.min(nbWorksheets, Math.max(5, nbWorksheets/50));
+        this.maxRelaxed = Math.max(minRelaxed, nbWorksheets/2);
+        this.nbRelaxed = minRelaxed;
+    }
+
+    // Start of worksheet w in the reference solution
+    protected int start(int w) {
+        return values[optional ? nbWorksheets+w : w];
+    }
+
+    // True if worksheet w is done in the reference solution
+    protected boolean isDone(int w) {
+        return !optional || values[w] == 1;
+    }
+
+    public void setNbRelaxed(int nbRelaxed) {
+        this.nbRelaxed = Math.min(nbWorksheets, nbRelaxed);
+    }
+
+    // Adds worksheets to relaxed until it contains nbRelaxed of them
+    protected abstract void selectRelaxed();
+
+    protected boolean isFull() {
+        return relaxed.cardinality() >= nbRelaxed;
+    }
+
+    // Completes relaxed with worksheets chosen at random
+    protected void fillRandomly() {
+        while(!isFull()) {
+            relaxed.set(random.nextInt(nbWorksheets));
+        }
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        relaxed.clear();
+        selectRelaxed();
+        for(int w = relaxed.nextClearBit(0); w<nbWorksheets; w = relaxed.nextClearBit(w+1)) {
+            if(optional) {
+                freeze(w);
+                freeze(nbWorksheets+w);
+            } else {
+                freeze(w);
+            }
+        }
+    }
+
+    @Override
+    public void recordSolution() {
+        super.recordSolution();
+        nbRelaxed = minRelaxed;
+    }
+
+    @Override
+    public void restrictLess() {
+        nbRelaxed = Math.min(maxRelaxed, nbRelaxed+Math.max(1, nbRelaxed/10));
+    }
+}
@@ -0,0 +1,24 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One fixpoint of the ProfilingEngine
+@Name("rnmp.Fixpoint")
+@Label("Fixpoint")
+@Category("RNMP")
+@StackTrace(false)
+class FixpointEvent extends Event {
+    @Label("Domain modifications")
+    long modifications;
+
+    @Label("Failed")
+    boolean failed;
+}
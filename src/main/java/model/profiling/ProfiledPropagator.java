@@ -0,0 +1,81 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.profiling;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+
+// Propagator whose filtering, in filter, is timed when the engine of its solver is a ProfilingEngine.
+// Calls nested in another call of the same propagator (coarse propagation from a fine event, recursive propagation)
+// are counted in the outer one.
+public abstract class ProfiledPropagator extends Propagator<IntVar> {
+    private int depth;
+
+    public ProfiledPropagator(IntVar[] vars, PropagatorPriority priority, boolean reactToFineEvt) {
+        super(vars, priority, reactToFineEvt);
+    }
+
+    public abstract void filter(int evtmask) throws ContradictionException;
+
+    public void filter(int idxVarInProp, int mask) throws ContradictionException {
+        super.propagate(idxVarInProp, mask);
+    }
+
+    private ProfilingEngine profiler() {
+        if(depth > 0 || !(model.getSolver().getEngine() instanceof ProfilingEngine)) {
+            return null;
+        }
+        return (ProfilingEngine) model.getSolver().getEngine();
+    }
+
+    private void end(ProfilingEngine profiler, PropagationEvent event, long time, long modifications) {
+        depth--;
+        profiler.record(this, System.nanoTime()-time);
+        event.constraint = getConstraint().getName();
+        event.propagator = getClass().getSimpleName();
+        event.modifications = profiler.getNbModifications()-modifications;
+        event.commit();
+    }
+
+    @Override
+    public final void propagate(int evtmask) throws ContradictionException {
+        ProfilingEngine profiler = profiler();
+        if(profiler == null) {
+            filter(evtmask);
+            return;
+        }
+        PropagationEvent event = new PropagationEvent();
+        event.begin();
+        long modifications = profiler.getNbModifications();
+        long time = System.nanoTime();
+        depth++;
+        try {
+            filter(evtmask);
+        } finally {
+            end(profiler, event, time, modifications);
+        }
+    }
+
+    @Override
+    public final void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        ProfilingEngine profiler = profiler();
+        if(profiler == null) {
+            filter(idxVarInProp, mask);
+            return;
+        }
+        PropagationEvent event = new PropagationEvent();
+        event.begin();
+        long modifications = profiler.getNbModifications();
+        long time = System.nanoTime();
+        depth++;
+        try {
+            filter(idxVarInProp, mask);
+        } finally {
+            end(profiler, event, time, modifications);
+        }
+    }
+}
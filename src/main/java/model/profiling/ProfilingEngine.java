@@ -0,0 +1,122 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.profiling;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// Propagation engine counting, per constraint name, the domain modifications made by the propagators, and timing
+// the ProfiledPropagators (the custom ones) on each of their calls. Choco does not expose the calls of the other
+// propagators : their time is the one of the fixpoints minus the one of the ProfiledPropagators.
+// Opt-in : enabled with -Drnmp.profile=true, see plugIfEnabled. Each call of a ProfiledPropagator and each fixpoint
+// is also a Java Flight Recorder event (rnmp.Propagation, rnmp.Fixpoint) when a recording is running.
+public class ProfilingEngine extends PropagationEngine {
+    public static final String PROPERTY = "rnmp.profile";
+    private static final String SEARCH = "SEARCH"; // modifications of the decisions and of the objective cut
+
+    static class Stats {
+        long nbCalls;
+        long time; // ns
+        long nbModifications;
+    }
+
+    private Map<String, Stats> stats;
+    private long nbModifications;
+    private long nbFixpoints;
+    private long nbFailedFixpoints;
+    private long fixpointTime;
+
+    public ProfilingEngine(Model model) {
+        super(model);
+        this.stats = new TreeMap<>();
+    }
+
+    public static void plugIfEnabled(Model model) {
+        if(Boolean.getBoolean(PROPERTY)) {
+            model.getSolver().setEngine(new ProfilingEngine(model));
+        }
+    }
+
+    // Prints the profile of the model if it is profiled
+    public static void printIfEnabled(Model model) {
+        if(model.getSolver().getEngine() instanceof ProfilingEngine) {
+            System.out.print(model.getSolver().getEngine());
+        }
+    }
+
+    private Stats get(String name) {
+        Stats s = stats.get(name);
+        if(s == null) {
+            s = new Stats();
+            stats.put(name, s);
+        }
+        return s;
+    }
+
+    long getNbModifications() {
+        return nbModifications;
+    }
+
+    void record(Propagator<?> propagator, long time) {
+        Stats s = get(propagator.getConstraint().getName());
+        s.nbCalls++;
+        s.time += time;
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        nbModifications++;
+        get(cause instanceof Propagator ? ((Propagator<?>) cause).getConstraint().getName() : SEARCH).nbModifications++;
+        super.onVariableUpdate(variable, type, cause);
+    }
+
+    @Override
+    public void propagate() throws ContradictionException {
+        FixpointEvent event = new FixpointEvent();
+        event.begin();
+        long modifications = nbModifications;
+        long time = System.nanoTime();
+        try {
+            super.propagate();
+        } catch(ContradictionException ex) {
+            nbFailedFixpoints++;
+            event.failed = true;
+            throw ex;
+        } finally {
+            nbFixpoints++;
+            fixpointTime += System.nanoTime()-time;
+            event.modifications = nbModifications-modifications;
+            event.commit();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%d fixpoints (%d failed) in %dms, %d modifications%n", nbFixpoints, nbFailedFixpoints,
+                fixpointTime/1000000, nbModifications));
+        sb.append(String.format("%-32s %12s %10s %8s %14s%n", "constraint", "calls", "time(ms)", "time(%)", "modifications"));
+        long profiledTime = 0;
+        for(Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            profiledTime += s.time;
+            sb.append(String.format("%-32s %12s %10s %8s %14d%n", entry.getKey(), s.nbCalls == 0 ? "-" : s.nbCalls,
+                    s.nbCalls == 0 ? "-" : s.time/1000000, s.nbCalls == 0 ? "-" : String.format("%.1f", 100.0*s.time/Math.max(1, fixpointTime)),
+                    s.nbModifications));
+        }
+        long otherTime = Math.max(0, fixpointTime-profiledTime);
+        sb.append(String.format("%-32s %12s %10d %8.1f %14s%n", "(other propagators)", "-", otherTime/1000000,
+                100.0*otherTime/Math.max(1, fixpointTime), "-"));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,27 @@
+/*
+@author Arthur Godet <arth.godet@gmail.com>
+@since 17/10/2026
+*/
+package model.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One call of a ProfiledPropagator
+@Name("rnmp.Propagation")
+@Label("Propagation")
+@Category("RNMP")
+@StackTrace(false)
+class PropagationEvent extends Event {
+    @Label("Constraint")
+    String constraint;
+
+    @Label("Propagator")
+    String propagator;
+
+    @Label("Domain modifications")
+    long modifications;
+}